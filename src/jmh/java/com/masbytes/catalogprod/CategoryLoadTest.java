@@ -0,0 +1,225 @@
+package com.masbytes.catalogprod;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
+import com.masbytes.catalogprod.category.service.CategoryService;
+
+/**
+ * Closed-loop HTTP load test of the category listing
+ * ({@code GET /api/v1/categories?name=<prefix>}), comparing Tomcat's platform
+ * thread pool with virtual threads at several numbers of concurrent clients.
+ *
+ * For each mode the application is started on a random port with an
+ * in-memory H2 database seeded with 10k categories. Every client is a virtual
+ * thread that sends a request as soon as the previous one completes. For the
+ * requests that complete within the measurement window (after the warm-up),
+ * throughput and latency percentiles of the successful ones are printed, along
+ * with the number of failed or rejected (503) requests.
+ *
+ * Options (all optional):
+ * <ul>
+ * <li>--clients=200,2000,20000</li>
+ * <li>--modes=platform,virtual</li>
+ * <li>--warmup=PT5S --duration=PT15S</li>
+ * <li>--target=http://host:port to load a running instance instead</li>
+ * </ul>
+ *
+ * Each client keeps a connection open, so client and embedded server need two
+ * file descriptors per client: raise {@code ulimit -n} accordingly, or run the
+ * service elsewhere and use --target.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec@load-test -Dload.args="--clients=200,2000"
+ */
+
+public class CategoryLoadTest {
+
+    private static final int CATEGORIES = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would re-run main in a restart class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        Map<String, String> options = parse(args);
+        int[] clients = Arrays.stream(options.getOrDefault("clients", "200,2000,20000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT5S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT15S"));
+
+        System.out.printf("%-9s %8s %10s %9s %9s %9s %9s %9s%n",
+                "mode", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "ok", "errors");
+
+        String target = options.get("target");
+        if (target != null) {
+            for (int level : clients) {
+                run("external", target, level, warmup, duration);
+            }
+            return;
+        }
+
+        for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+            try (ConfigurableApplicationContext context = start(mode)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                for (int level : clients) {
+                    run(mode, baseUrl, level, warmup, duration);
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CatalogprodApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode
+                                + ";DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS catalog",
+                        // Let every client connect; queuing then happens in the application
+                        "server.tomcat.max-connections=-1",
+                        "server.tomcat.accept-count=10000",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate=OFF")
+                .run();
+
+        CategoryService categoryService = context.getBean(CategoryService.class);
+        for (int from = 0; from < CATEGORIES; from += 1000) {
+            List<CategoryRequestDTO> chunk = new ArrayList<>(1000);
+            for (int i = from; i < from + 1000; i++) {
+                chunk.add(new CategoryRequestDTO(String.format("CAT%05d", i), "DESCRIPTION " + i));
+            }
+            categoryService.createCategories(chunk);
+        }
+        return context;
+    }
+
+    private static void run(String mode, String baseUrl, int clients, Duration warmup, Duration duration)
+            throws InterruptedException {
+        AtomicLong errors = new AtomicLong();
+        LatencyRecorder[] recorders = new LatencyRecorder[clients];
+        Thread[] threads = new Thread[clients];
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build()) {
+
+            for (int i = 0; i < clients; i++) {
+                LatencyRecorder recorder = recorders[i] = new LatencyRecorder();
+                threads[i] = Thread.ofVirtual().start(() -> {
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= measureUntil) {
+                            return;
+                        }
+                        // Prefixes of 10 categories, served by the unique index on name_normalized
+                        String prefix = String.format("CAT%04d",
+                                ThreadLocalRandom.current().nextInt(CATEGORIES / 10));
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(baseUrl + "/api/v1/categories?size=20&name=" + prefix))
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception ex) {
+                            ok = false;
+                        }
+                        // Count what completes inside the window, whenever it was sent
+                        long end = System.nanoTime();
+                        if (end >= measureFrom && end <= measureUntil) {
+                            if (ok) {
+                                recorder.record(end - start);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        long[] latencies = LatencyRecorder.merge(recorders);
+        Arrays.sort(latencies);
+        System.out.printf("%-9s %8d %10.0f %9.1f %9.1f %9.1f %9d %9d%n",
+                mode, clients,
+                latencies.length / (duration.toNanos() / 1e9),
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0.0,
+                latencies.length, errors.get());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Latencies of one client, in nanoseconds; only touched by its thread.
+     */
+    private static final class LatencyRecorder {
+
+        private long[] values = new long[256];
+
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        static long[] merge(LatencyRecorder[] recorders) {
+            int total = 0;
+            for (LatencyRecorder recorder : recorders) {
+                total += recorder.size;
+            }
+            long[] merged = new long[total];
+            int offset = 0;
+            for (LatencyRecorder recorder : recorders) {
+                System.arraycopy(recorder.values, 0, merged, offset, recorder.size);
+                offset += recorder.size;
+            }
+            return merged;
+        }
+
+    }
+
+}
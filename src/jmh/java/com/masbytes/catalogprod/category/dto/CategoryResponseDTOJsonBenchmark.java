@@ -0,0 +1,69 @@
+package com.masbytes.catalogprod.category.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * JSON serialization cost of {@link CategoryResponseDTO}, including its
+ * {@code @JsonFormat} dates, with the same ObjectMapper defaults Spring Boot
+ * uses for HTTP responses.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryResponseDTOJsonBenchmark {
+
+    private ObjectWriter writer;
+
+    private CategoryResponseDTO single;
+
+    private List<CategoryResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        single = newResponse(1L);
+        page = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            page.add(newResponse(id));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return writer.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializePageOf100() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    private static CategoryResponseDTO newResponse(long id) {
+        return new CategoryResponseDTO(id, "CATEGORY " + id, "DESCRIPTION OF CATEGORY " + id,
+                LocalDateTime.of(2025, 1, 1, 12, 0), LocalDateTime.of(2025, 1, 2, 12, 0), null, Status.ACTIVE);
+    }
+
+}
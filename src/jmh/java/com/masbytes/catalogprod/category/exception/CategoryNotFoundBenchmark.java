@@ -0,0 +1,101 @@
+package com.masbytes.catalogprod.category.exception;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+
+/**
+ * Throughput of a 404 for an unknown category name: the exception is thrown
+ * {@code stackDepth} frames below the catch, as a service call is below the
+ * servlet and Spring MVC frames, and turned into the response body.
+ *
+ * Both benchmarks serialize the ErrorResponse of
+ * {@link CategoryExceptionHandler} with Jackson. {@code before} creates the
+ * exception as it used to be: with
+ * {@code -Dcatalog.category.exception.stack-traces=true} and its message
+ * concatenated at the throw. {@code after} throws the stackless exception of
+ * {@link CategoryNotFoundException#forName(String)}, whose message is only
+ * concatenated when the handler reads it.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CategoryNotFoundBenchmark"
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryNotFoundBenchmark {
+
+    private static final String NAME = "NO SUCH CATEGORY";
+
+    @Param({ "32", "128" })
+    public int stackDepth;
+
+    private final CategoryExceptionHandler handler = new CategoryExceptionHandler();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/v1/categories/name/" + NAME);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcatalog.category.exception.stack-traces=true")
+    public byte[] before() throws JsonProcessingException {
+        return notFound(false);
+    }
+
+    @Benchmark
+    public byte[] after() throws JsonProcessingException {
+        return notFound(true);
+    }
+
+    private byte[] notFound(boolean lazyMessage) throws JsonProcessingException {
+        CategoryNotFoundException ex = lookUp(stackDepth, lazyMessage);
+        return objectMapper.writeValueAsBytes(handler.handleCategoryNotFound(ex, request).getBody());
+    }
+
+    private static CategoryNotFoundException lookUp(int depth, boolean lazyMessage) {
+        try {
+            descend(depth, lazyMessage);
+            throw new IllegalStateException("unreachable");
+        } catch (CategoryNotFoundException ex) {
+            return ex;
+        }
+    }
+
+    private static void descend(int depth, boolean lazyMessage) {
+        if (depth == 0) {
+            throw lazyMessage
+                    ? CategoryNotFoundException.forName(NAME)
+                    : new CategoryNotFoundException("Category not found with name: " + NAME);
+        }
+        descend(depth - 1, lazyMessage);
+    }
+
+}
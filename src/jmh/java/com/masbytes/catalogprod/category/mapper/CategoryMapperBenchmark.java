@@ -0,0 +1,85 @@
+package com.masbytes.catalogprod.category.mapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.model.CategoryNames;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * Per-request CPU and allocation cost of {@link CategoryMapper} and of the
+ * name normalization done on every write and lookup.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryMapperBenchmark {
+
+    private CategoryRequestDTO request;
+
+    private Category entity;
+
+    private List<Category> entities;
+
+    private String rawName;
+
+    @Setup
+    public void setUp() {
+        request = new CategoryRequestDTO("  Electrónica de consumo ", " Televisores, audio y accesorios ");
+        entity = newCategory(1L);
+        entities = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            entities.add(newCategory(id));
+        }
+        rawName = "  Electrónica de consumo ";
+    }
+
+    @Benchmark
+    public Category toEntity() {
+        return CategoryMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public CategoryResponseDTO toResponseDTO() {
+        return CategoryMapper.toResponseDTO(entity);
+    }
+
+    @Benchmark
+    public List<CategoryResponseDTO> toResponseDTOList100() {
+        return CategoryMapper.toResponseDTOList(entities);
+    }
+
+    @Benchmark
+    public String normalizeName() {
+        return CategoryNames.normalize(rawName);
+    }
+
+    private static Category newCategory(long id) {
+        Category category = new Category(id, "CATEGORY " + id, "DESCRIPTION OF CATEGORY " + id);
+        category.setStatus(Status.ACTIVE);
+        category.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+        category.setUpdatedAt(LocalDateTime.of(2025, 1, 2, 12, 0));
+        return category;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.masbytes.catalogprod.category.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.service.CategoryService;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Per-call overhead of {@link CategoryServiceTimingAspect}: a call through a
+ * plain Spring proxy against a call through a proxy with the timing aspect
+ * recording into a Prometheus registry with percentile histograms on, as
+ * configured in application.properties.
+ *
+ * Both proxies end in an interceptor returning a constant, so the difference is
+ * the cost of the aspect alone; compare it with the latency of a real
+ * service call (tens to hundreds of microseconds). Runs on 4 threads to
+ * include contention on the shared timers.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CategoryServiceMetricsBenchmark"
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CategoryServiceMetricsBenchmark {
+
+    private static final CategoryResponseDTO CATEGORY = new CategoryResponseDTO();
+
+    private CategoryService plain;
+
+    private CategoryService timed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        });
+
+        // The last interceptor of each chain answers every call; targets are never reached
+        MethodInterceptor noOp = invocation -> CATEGORY;
+
+        ProxyFactory plainFactory = new ProxyFactory(CategoryService.class, noOp);
+        plain = (CategoryService) plainFactory.getProxy();
+
+        AspectJProxyFactory timedFactory = new AspectJProxyFactory(plain);
+        timedFactory.addAspect(new CategoryServiceTimingAspect(registry));
+        timedFactory.addAdvice(noOp);
+        timed = timedFactory.getProxy();
+    }
+
+    @Benchmark
+    public CategoryResponseDTO plainProxy() {
+        return plain.getCategoryById(1L);
+    }
+
+    @Benchmark
+    public CategoryResponseDTO timedProxy() {
+        return timed.getCategoryById(1L);
+    }
+
+}
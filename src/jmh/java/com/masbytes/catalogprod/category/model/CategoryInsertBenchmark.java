@@ -0,0 +1,125 @@
+package com.masbytes.catalogprod.category.model;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert throughput of {@link Category} (pooled-lo sequence, JDBC batching)
+ * against the former IDENTITY mapping ({@link IdentityCategory}), for batches
+ * of 1k and 100k rows.
+ *
+ * H2 is reached over TCP on the loopback interface, so every statement pays a
+ * real network round trip as it would against SQL Server; an embedded H2
+ * would hide the cost that IDENTITY adds.
+ *
+ * Each invocation inserts one whole batch in a single transaction, flushing
+ * and clearing the session every {@value #JDBC_BATCH_SIZE} rows, as a bulk
+ * import would.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CategoryInsertBenchmark"
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CategoryInsertBenchmark {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Param({ "1000", "100000" })
+    public int rows;
+
+    @Param({ "IDENTITY", "SEQUENCE" })
+    public String idStrategy;
+
+    private Server server;
+
+    private StandardServiceRegistry registry;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + server.getPort()
+                + "/mem:inserts;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS catalog";
+
+        registry = new StandardServiceRegistryBuilder()
+                .applySettings(Map.of(
+                        "hibernate.connection.url", url,
+                        "hibernate.hbm2ddl.auto", "create",
+                        "hibernate.jdbc.batch_size", String.valueOf(JDBC_BATCH_SIZE),
+                        "hibernate.order_inserts", "true",
+                        "hibernate.id.optimizer.pooled.preferred", "pooled-lo"))
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(IdentityCategory.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            session.createMutationQuery("DELETE FROM Category").executeUpdate();
+            session.createMutationQuery("DELETE FROM IdentityCategory").executeUpdate();
+            tx.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+        server.stop();
+    }
+
+    @Benchmark
+    public int insertBatch() {
+        boolean identity = "IDENTITY".equals(idStrategy);
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                String name = "CATEGORY " + i;
+                session.persist(identity
+                        ? new IdentityCategory(name, "DESCRIPTION OF " + name)
+                        : new Category(name, "DESCRIPTION OF " + name));
+                if (i % JDBC_BATCH_SIZE == JDBC_BATCH_SIZE - 1) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            tx.commit();
+        }
+        return rows;
+    }
+
+}
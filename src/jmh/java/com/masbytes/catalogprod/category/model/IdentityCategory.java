@@ -0,0 +1,44 @@
+package com.masbytes.catalogprod.category.model;
+
+import com.masbytes.catalogprod.common.AuditingEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Copy of the previous {@link Category} mapping, with IDENTITY ids, used as the
+ * baseline of {@link CategoryInsertBenchmark}.
+ */
+
+@Entity
+@Table(name = "category_identity", schema = "catalog")
+public class IdentityCategory extends AuditingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, unique = true)
+    private Long id;
+
+    @Column(name = "name", nullable = false, unique = true, length = 50)
+    private String name;
+
+    @Column(name = "description", nullable = false, length = 255)
+    private String description;
+
+    public IdentityCategory() {
+    }
+
+    public IdentityCategory(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.masbytes.catalogprod.category.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.mapper.CategoryMapper;
+import com.masbytes.catalogprod.category.model.Category;
+
+/**
+ * Cost of reading a page of categories as managed entities mapped with
+ * {@link CategoryMapper#toResponseDTO(Category)} against the constructor
+ * projection used by {@link CategoryRepository}, for pages of 100 and 1000
+ * rows out of 10k.
+ *
+ * {@code entities} is a plain session, {@code entitiesReadOnly} a read-only
+ * one (what {@code @Transactional(readOnly = true)} gives), and
+ * {@code projection} selects straight into {@link CategoryResponseDTO}. The
+ * default GC profiler reports the heap allocated per query (gc.alloc.rate.norm).
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CategoryProjectionBenchmark"
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CategoryProjectionBenchmark {
+
+    private static final int CATEGORIES = 10_000;
+
+    private static final String ENTITY_QUERY = "FROM Category c WHERE c.id > :from ORDER BY c.id";
+
+    private static final String PROJECTION_QUERY = CategoryRepository.RESPONSE_PROJECTION
+            + "WHERE c.id > :from ORDER BY c.id";
+
+    @Param({ "100", "1000" })
+    public int pageSize;
+
+    private StandardServiceRegistry registry;
+
+    private SessionFactory sessionFactory;
+
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySettings(Map.of(
+                        "hibernate.connection.url",
+                        "jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS catalog",
+                        "hibernate.hbm2ddl.auto", "create",
+                        "hibernate.jdbc.batch_size", "50",
+                        "hibernate.id.optimizer.pooled.preferred", "pooled-lo"))
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Category.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int i = 0; i < CATEGORIES; i++) {
+                String name = "CATEGORY " + i;
+                session.persist(new Category(name, "DESCRIPTION OF " + name));
+                if (i % 50 == 49) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            tx.commit();
+            firstId = session.createSelectionQuery("SELECT MIN(c.id) FROM Category c", Long.class)
+                    .getSingleResult();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public List<CategoryResponseDTO> entities() {
+        return readEntities(false);
+    }
+
+    @Benchmark
+    public List<CategoryResponseDTO> entitiesReadOnly() {
+        return readEntities(true);
+    }
+
+    @Benchmark
+    public List<CategoryResponseDTO> projection() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            List<CategoryResponseDTO> page = session
+                    .createSelectionQuery(PROJECTION_QUERY, CategoryResponseDTO.class)
+                    .setParameter("from", firstId)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            tx.commit();
+            return page;
+        }
+    }
+
+    private List<CategoryResponseDTO> readEntities(boolean readOnly) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(readOnly);
+            Transaction tx = session.beginTransaction();
+            List<CategoryResponseDTO> page = session.createSelectionQuery(ENTITY_QUERY, Category.class)
+                    .setParameter("from", firstId)
+                    .setMaxResults(pageSize)
+                    .getResultList()
+                    .stream()
+                    .map(CategoryMapper::toResponseDTO)
+                    .toList();
+            // Commit flushes, which dirty-checks every managed entity
+            tx.commit();
+            return page;
+        }
+    }
+
+}
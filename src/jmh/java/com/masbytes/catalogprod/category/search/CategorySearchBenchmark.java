@@ -0,0 +1,166 @@
+package com.masbytes.catalogprod.category.search;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.masbytes.catalogprod.category.repository.CategoryNameView;
+
+/**
+ * Compares the partial name search of the repository ({@code UPPER(name) LIKE
+ * '%X%'}) with the trigram index followed by a primary key lookup, on an H2
+ * table holding 10k, 100k and 1M categories.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CategorySearchBenchmark"
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CategorySearchBenchmark {
+
+    private static final String LIKE_QUERY = "SELECT id, name, description, status FROM catalog.category "
+            + "WHERE UPPER(name) LIKE UPPER(?) ESCAPE '\\'";
+
+    @Param({ "10000", "100000", "1000000" })
+    public int categories;
+
+    private Connection connection;
+
+    private PreparedStatement likeStatement;
+
+    private CategoryNameIndex index;
+
+    private String query;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search_" + categories + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS catalog");
+            statement.execute("CREATE TABLE catalog.category (id BIGINT PRIMARY KEY, "
+                    + "name VARCHAR(50) NOT NULL UNIQUE, description VARCHAR(255) NOT NULL, "
+                    + "status VARCHAR(20) NOT NULL)");
+        }
+
+        List<String> names = generateNames(categories);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO catalog.category (id, name, description, status) VALUES (?, ?, ?, 'ACTIVE')")) {
+            for (int i = 0; i < names.size(); i++) {
+                insert.setLong(1, i + 1L);
+                insert.setString(2, names.get(i));
+                insert.setString(3, "DESCRIPTION OF " + names.get(i));
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        index = new CategoryNameIndex(null);
+        index.load(IntStream.range(0, names.size())
+                .mapToObj(i -> new CategoryNameView(i + 1L, names.get(i))));
+
+        // A lower-case fragment from the middle of an existing name, as typed in the admin search
+        query = names.get(names.size() / 2).substring(4, 10).toLowerCase(Locale.ROOT);
+        likeStatement = connection.prepareStatement(LIKE_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int repositoryLikeQuery() throws SQLException {
+        likeStatement.setString(1, "%" + query + "%");
+        return countRows(likeStatement);
+    }
+
+    @Benchmark
+    public int trigramIndexThenPrimaryKey() throws SQLException {
+        List<Long> ids = index.search(query).orElseThrow();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT id, name, description, status FROM catalog.category WHERE id IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < ids.size(); i++) {
+                statement.setLong(i + 1, ids.get(i));
+            }
+            return countRows(statement);
+        }
+    }
+
+    private static int countRows(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Generates unique, upper-case names made of two pseudo-random words.
+     */
+
+    private static List<String> generateNames(int count) {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(randomWord(random, 8) + " " + randomWord(random, 6) + " " + Integer.toString(i, 36)
+                    .toUpperCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.masbytes.catalogprod.category.validation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+
+/**
+ * Cost of {@link CategoryValidator#validateCategoryRequest} on valid input and
+ * on the rejected-input path, which builds an exception.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryValidatorBenchmark {
+
+    private final CategoryRequestDTO valid = new CategoryRequestDTO("ELECTRONICS", "ELECTRONIC DEVICES");
+
+    private final CategoryRequestDTO blankDescription = new CategoryRequestDTO("ELECTRONICS", "   ");
+
+    @Benchmark
+    public CategoryRequestDTO validRequest() {
+        CategoryValidator.validateCategoryRequest(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public Object invalidRequest() {
+        try {
+            CategoryValidator.validateCategoryRequest(blankDescription);
+            return null;
+        } catch (CategoryInvalidDataException ex) {
+            return ex;
+        }
+    }
+
+}
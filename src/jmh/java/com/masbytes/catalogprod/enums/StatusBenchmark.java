@@ -0,0 +1,46 @@
+package com.masbytes.catalogprod.enums;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of parsing and validating status strings with {@link Status}.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusBenchmark {
+
+    // First constant, last constant, and a value that matches none
+    @Param({ "active", "Deleted", "archived" })
+    public String value;
+
+    @Benchmark
+    public Object fromString() {
+        try {
+            return Status.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return Status.isValid(value);
+    }
+
+}
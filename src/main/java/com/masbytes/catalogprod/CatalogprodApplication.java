@@ -2,8 +2,17 @@ package com.masbytes.catalogprod;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+/**
+ * With spring.threads.virtual.enabled=true, Tomcat requests, @Async methods
+ * (applicationTaskExecutor) and @Scheduled jobs (taskScheduler) all run on
+ * virtual threads.
+ */
 @SpringBootApplication
+@EnableAsync
+@EnableScheduling
 public class CatalogprodApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,223 @@
+package com.masbytes.catalogprod.category.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.event.CategoryStatusChangedEvent;
+import com.masbytes.catalogprod.category.model.CategoryNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-process read-through cache for category lookups.
+ *
+ * A single cache holds two indexes over the same {@link CategoryResponseDTO}:
+ * one keyed by ID and one keyed by normalized name. Entries are evicted by
+ * size and by time-to-live, and both indexes are invalidated once a write to
+ * the category commits. Loads that read the database while such an
+ * invalidation ran pass the {@link #generation()} they started under to
+ * {@link #put(CategoryResponseDTO, long)}, which then drops their possibly
+ * stale result instead of caching it for the whole time-to-live. Hit, miss
+ * and eviction counts are exported under the {@code cache.*} meters with
+ * {@code cache=category}.
+ */
+
+@Component
+public class CategoryCache implements MeterBinder {
+
+    private final Cache<CacheKey, CategoryResponseDTO> cache;
+
+    // Bumped before every eviction
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryCache(@Value("${catalog.category.cache.maximum-size:10000}") long maximumSize,
+            @Value("${catalog.category.cache.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Looks up a cached category by its ID.
+     *
+     * @param id the category ID
+     * @return the cached category, or an empty Optional on a miss
+     */
+
+    public Optional<CategoryResponseDTO> getById(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(CacheKey.ofId(id)));
+    }
+
+    /**
+     * Looks up a cached category by its normalized name.
+     *
+     * @param normalizedName the trimmed, upper-cased category name
+     * @return the cached category, or an empty Optional on a miss
+     */
+
+    public Optional<CategoryResponseDTO> getByName(String normalizedName) {
+        return Optional.ofNullable(cache.getIfPresent(CacheKey.ofName(normalizedName)));
+    }
+
+    /**
+     * Stores a category under both its ID and its normalized name, the key
+     * every name lookup uses.
+     *
+     * @param dto the category to cache; ignored if null
+     */
+
+    public void put(CategoryResponseDTO dto) {
+        if (dto == null) {
+            return;
+        }
+
+        cache.put(CacheKey.ofId(dto.getId()), dto);
+        cache.put(nameKey(dto), dto);
+    }
+
+    /**
+     * Returns the current invalidation generation, to be read before the query
+     * whose result is later passed to {@link #put(CategoryResponseDTO, long)}.
+     *
+     * @return the generation
+     */
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a category read under the given generation, unless an eviction
+     * has run since: the row may have changed after it was read, and caching
+     * it would undo the eviction that followed the change.
+     *
+     * @param dto                the category to cache; ignored if null
+     * @param observedGeneration the value of {@link #generation()} before the
+     *                           category was read
+     */
+
+    public void put(CategoryResponseDTO dto, long observedGeneration) {
+        if (dto == null || observedGeneration != generation.get()) {
+            return;
+        }
+
+        put(dto);
+        // An eviction that ran while the entries were written may have
+        // missed them, so they are dropped here instead
+        if (observedGeneration != generation.get()) {
+            cache.invalidate(CacheKey.ofId(dto.getId()));
+            cache.invalidate(nameKey(dto));
+        }
+    }
+
+    /**
+     * Removes a category from both indexes.
+     *
+     * The name currently cached for the ID is evicted as well, so a stale name
+     * entry cannot outlive a rename.
+     *
+     * @param id    the category ID
+     * @param names additional normalized names to evict (nulls are ignored)
+     */
+
+    public void evict(Long id, String... names) {
+        generation.incrementAndGet();
+        if (id != null) {
+            CategoryResponseDTO cached = cache.asMap().remove(CacheKey.ofId(id));
+            if (cached != null) {
+                cache.invalidate(nameKey(cached));
+            }
+        }
+
+        for (String name : names) {
+            if (name != null) {
+                cache.invalidate(CacheKey.ofName(name));
+            }
+        }
+    }
+
+    /**
+     * Invalidates the affected entries once the writing transaction commits.
+     * Falls back to immediate invalidation when no transaction is active.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        evict(event.id(), event.previousName(), event.currentName());
+    }
+
+    /**
+     * Invalidates every category changed by a bulk status transition once the
+     * writing transaction commits.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryStatusChanged(CategoryStatusChangedEvent event) {
+        event.ids().forEach(this::evict);
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters recorded so far.
+     *
+     * @return a snapshot of the cache statistics
+     */
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "category");
+    }
+
+    /**
+     * Returns the approximate number of entries across both indexes.
+     *
+     * @return the estimated entry count
+     */
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // Names written by the service are already normalized; older rows may not be
+    private static CacheKey nameKey(CategoryResponseDTO dto) {
+        return CacheKey.ofName(CategoryNames.normalize(dto.getName()));
+    }
+
+    /**
+     * Key of a cache entry: either an ID or a normalized name.
+     */
+
+    private record CacheKey(Long id, String name) {
+
+        static CacheKey ofId(Long id) {
+            return new CacheKey(id, null);
+        }
+
+        static CacheKey ofName(String name) {
+            return new CacheKey(null, name);
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.masbytes.catalogprod.category.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.event.CategoryStatusChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Single-flight coalescing of category loads that miss the CategoryCache.
+ *
+ * The first caller to miss on an ID or normalized name runs the repository
+ * load; callers that miss on the same key while it is in flight wait for it
+ * and receive its result or rethrow its exception. At most
+ * {@code catalog.category.coalesce.max-in-flight} keys are tracked: past that,
+ * callers load on their own instead of being queued.
+ *
+ * A change to a category forgets its in-flight loads once the write commits,
+ * so callers that arrive afterwards start a fresh load instead of joining one
+ * that may have read the previous row.
+ */
+
+@Component
+public class CategoryLoadCoalescer implements MeterBinder {
+
+    private final ConcurrentMap<LoadKey, CompletableFuture<CategoryResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final int maxInFlight;
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder coalescedWaiters = new LongAdder();
+
+    private final LongAdder bypassed = new LongAdder();
+
+    public CategoryLoadCoalescer(@Value("${catalog.category.coalesce.max-in-flight:1024}") int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Loads a category by ID, sharing the load with concurrent callers.
+     *
+     * @param id     the category ID
+     * @param loader the repository load, run by one caller only
+     * @return the loaded category
+     */
+
+    public CategoryResponseDTO loadById(Long id, Supplier<CategoryResponseDTO> loader) {
+        return load(LoadKey.ofId(id), loader);
+    }
+
+    /**
+     * Loads a category by normalized name, sharing the load with concurrent
+     * callers.
+     *
+     * @param normalizedName the trimmed, upper-cased category name
+     * @param loader         the repository load, run by one caller only
+     * @return the loaded category
+     */
+
+    public CategoryResponseDTO loadByName(String normalizedName, Supplier<CategoryResponseDTO> loader) {
+        return load(LoadKey.ofName(normalizedName), loader);
+    }
+
+    /**
+     * Forgets the in-flight loads of the changed category once the writing
+     * transaction commits. Callers already waiting still get their result.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.id() != null) {
+            inFlight.remove(LoadKey.ofId(event.id()));
+        }
+        if (event.previousName() != null) {
+            inFlight.remove(LoadKey.ofName(event.previousName()));
+        }
+        if (event.currentName() != null) {
+            inFlight.remove(LoadKey.ofName(event.currentName()));
+        }
+    }
+
+    /**
+     * Forgets the in-flight loads by ID of every category changed by a bulk
+     * status transition. Loads by name are left alone: the names are not in
+     * the event, and a status change does not change which row a name maps to.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryStatusChanged(CategoryStatusChangedEvent event) {
+        event.ids().forEach(id -> inFlight.remove(LoadKey.ofId(id)));
+    }
+
+    /**
+     * Returns the number of keys with a load in flight.
+     *
+     * @return the in-flight key count
+     */
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Returns how many callers have waited on a load started by another.
+     *
+     * @return the coalesced waiter count
+     */
+
+    public long coalescedWaiters() {
+        return coalescedWaiters.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.category.coalesce.in_flight", inFlight, ConcurrentMap::size)
+                .description("Category loads in flight")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.coalesce.loads", loads, LongAdder::sum)
+                .description("Category loads run against the repository")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.coalesce.waiters", coalescedWaiters, LongAdder::sum)
+                .description("Callers that waited on a load started by another caller")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.coalesce.bypassed", bypassed, LongAdder::sum)
+                .description("Loads run without coalescing because too many were in flight")
+                .register(registry);
+    }
+
+    private CategoryResponseDTO load(LoadKey key, Supplier<CategoryResponseDTO> loader) {
+        CompletableFuture<CategoryResponseDTO> existing = inFlight.get(key);
+        if (existing == null) {
+            if (inFlight.size() >= maxInFlight) {
+                bypassed.increment();
+                loads.increment();
+                return loader.get();
+            }
+
+            CompletableFuture<CategoryResponseDTO> own = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, own);
+            if (existing == null) {
+                return lead(key, own, loader);
+            }
+        }
+
+        coalescedWaiters.increment();
+        try {
+            return existing.join();
+        } catch (CompletionException ex) {
+            throw rethrow(ex.getCause());
+        }
+    }
+
+    private CategoryResponseDTO lead(LoadKey key, CompletableFuture<CategoryResponseDTO> own,
+            Supplier<CategoryResponseDTO> loader) {
+        loads.increment();
+        try {
+            CategoryResponseDTO result = loader.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * Key of an in-flight load: either an ID or a normalized name.
+     */
+
+    private record LoadKey(Long id, String name) {
+
+        static LoadKey ofId(Long id) {
+            return new LoadKey(id, null);
+        }
+
+        static LoadKey ofName(String name) {
+            return new LoadKey(null, name);
+        }
+
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.masbytes.catalogprod.category.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.pagination.CategoryChangeWatermark;
+import com.masbytes.catalogprod.category.repository.CategoryChange;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived cache of category IDs and normalized names that were looked up
+ * and do not exist, so repeated lookups of stale references are answered
+ * without a query.
+ *
+ * Entries expire after {@code catalog.category.negative-cache.ttl}. Once a
+ * creation or rename commits, the ID and names it touches are evicted, so a new
+ * category is found straight away. Categories created or renamed on other
+ * instances are evicted every
+ * {@code catalog.category.negative-cache.refresh-interval} by reading, from
+ * the primary, the rows whose change version is above the last one applied,
+ * as the name index and the status snapshot do. A lookup that misses while
+ * such a change is committing is not recorded: {@link #generation()} is read
+ * before the query and {@code markMissing*} ignore results read under an
+ * older one.
+ * Hits, misses and the hit ratio are exported under {@code cache.*} with
+ * {@code cache=category-negative} and {@code catalog.category.negative_cache.hit_ratio}.
+ */
+
+@Component
+public class CategoryNegativeCache implements MeterBinder {
+
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final CategoryRepository categoryRepository;
+
+    private final Cache<MissingKey, Boolean> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    // Serializes refreshes, which move the position
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // Last change read from the database; guarded by refreshLock
+    private CategoryChangeWatermark position;
+
+    public CategoryNegativeCache(CategoryRepository categoryRepository,
+            @Value("${catalog.category.negative-cache.maximum-size:10000}") long maximumSize,
+            @Value("${catalog.category.negative-cache.ttl:PT30S}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Tells whether the ID was recently found not to exist.
+     *
+     * @param id the category ID
+     * @return true if a lookup of the ID can fail without a query
+     */
+
+    public boolean isMissingId(Long id) {
+        return cache.getIfPresent(MissingKey.ofId(id)) != null;
+    }
+
+    /**
+     * Tells whether the normalized name was recently found not to exist.
+     *
+     * @param normalizedName the trimmed, upper-cased category name
+     * @return true if a lookup of the name can fail without a query
+     */
+
+    public boolean isMissingName(String normalizedName) {
+        return cache.getIfPresent(MissingKey.ofName(normalizedName)) != null;
+    }
+
+    /**
+     * Returns the current invalidation generation, to be read before the query
+     * whose empty result is later recorded.
+     *
+     * @return the generation
+     */
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Records that no category has the given ID, unless a category was
+     * created or renamed since the query started.
+     *
+     * @param id         the category ID
+     * @param generation the value of {@link #generation()} before the query
+     */
+
+    public void markMissingId(Long id, long generation) {
+        mark(MissingKey.ofId(id), generation);
+    }
+
+    /**
+     * Records that no category has the given normalized name, unless a
+     * category was created or renamed since the query started.
+     *
+     * @param normalizedName the trimmed, upper-cased category name
+     * @param generation     the value of {@link #generation()} before the query
+     */
+
+    public void markMissingName(String normalizedName, long generation) {
+        mark(MissingKey.ofName(normalizedName), generation);
+    }
+
+    /**
+     * Evicts the ID and the current name of the changed category once the
+     * writing transaction commits. Falls back to immediate invalidation when
+     * no transaction is active.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.id() != null) {
+            cache.invalidate(MissingKey.ofId(event.id()));
+        }
+        if (event.currentName() != null) {
+            cache.invalidate(MissingKey.ofName(event.currentName()));
+        }
+    }
+
+    /**
+     * Evicts the IDs and names of the categories changed since the last
+     * refresh, including those changed on other instances. The first refresh
+     * only takes the current change version and forgets every miss recorded
+     * before it.
+     */
+
+    @Scheduled(initialDelayString = "${catalog.category.negative-cache.refresh-interval:PT5S}",
+            fixedDelayString = "${catalog.category.negative-cache.refresh-interval:PT5S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            ReplicaRoutingContext.runOnPrimary(() -> {
+                if (position == null) {
+                    position = CategoryChangeWatermark.upTo(categoryRepository.findLastChangeVersion());
+                    invalidateAll();
+                } else {
+                    applyChanges();
+                }
+            });
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void applyChanges() {
+        List<CategoryChange> changes;
+        do {
+            changes = categoryRepository.findChangesAfter(position.changeVersion(), position.id(),
+                    Limit.of(REFRESH_BATCH_SIZE));
+            if (changes.isEmpty()) {
+                return;
+            }
+            generation.incrementAndGet();
+            for (CategoryChange change : changes) {
+                cache.invalidate(MissingKey.ofId(change.category().getId()));
+                if (change.nameNormalized() != null) {
+                    cache.invalidate(MissingKey.ofName(change.nameNormalized()));
+                }
+            }
+            position = CategoryChangeWatermark.after(changes.get(changes.size() - 1));
+        } while (changes.size() == REFRESH_BATCH_SIZE);
+    }
+
+    /**
+     * Forgets every recorded miss, after writes that publish no change events.
+     */
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the hit and miss counters recorded so far.
+     *
+     * @return a snapshot of the cache statistics
+     */
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "category-negative");
+        Gauge.builder("catalog.category.negative_cache.hit_ratio", cache, c -> c.stats().hitRate())
+                .description("Share of negative cache lookups answered without a query")
+                .register(registry);
+    }
+
+    private void mark(MissingKey key, long observedGeneration) {
+        if (observedGeneration != generation.get()) {
+            return;
+        }
+        cache.put(key, Boolean.TRUE);
+        // A change that committed while the entry was written evicts it
+        // again here, since its own eviction may have run first
+        if (observedGeneration != generation.get()) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Key of a cache entry: either an ID or a normalized name.
+     */
+
+    private record MissingKey(Long id, String name) {
+
+        static MissingKey ofId(Long id) {
+            return new MissingKey(id, null);
+        }
+
+        static MissingKey ofName(String name) {
+            return new MissingKey(null, name);
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.masbytes.catalogprod.category.cache;
+
+import java.util.List;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+
+/**
+ * The categories of one status, as held by {@link CategoryStatusSnapshot}.
+ *
+ * Views are shared by every reader and never change once built: the list is
+ * unmodifiable and the JSON array must not be written to.
+ *
+ * @param categories the categories with the status, ordered by ID
+ * @param json       the categories serialized as a JSON array, ready to be
+ *                   written to a response
+ * @param etag       strong ETag of the JSON, derived from its content
+ */
+
+public record CategoryStatusView(List<CategoryResponseDTO> categories, byte[] json, String etag) {
+
+}
@@ -0,0 +1,251 @@
+package com.masbytes.catalogprod.category.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.cache.CategoryStatusView;
+import com.masbytes.catalogprod.category.dto.CategoryChangesDTO;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.dto.CategoryImportReportDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.pagination.CategorySortKey;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+import com.masbytes.catalogprod.category.service.CategoryService;
+import com.masbytes.catalogprod.category.transfer.CategoryExportFormat;
+import com.masbytes.catalogprod.category.transfer.CategoryExporter;
+import com.masbytes.catalogprod.category.transfer.CategoryImporter;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * REST endpoints of the category catalog.
+ * 
+ * Reads carry a strong ETag and a Cache-Control header, and answer
+ * If-None-Match with 304 from the category or catalog version alone, without
+ * loading or serializing the categories.
+ */
+
+@RestController
+@RequestMapping("/api/v1/categories")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    private final CategoryExporter categoryExporter;
+
+    private final CategoryImporter categoryImporter;
+
+    private final CategoryStatusSnapshot categoryStatusSnapshot;
+
+    private final CacheControl categoryCacheControl;
+
+    private final CacheControl listCacheControl;
+
+    public CategoryController(CategoryService categoryService, CategoryExporter categoryExporter,
+            CategoryImporter categoryImporter, CategoryStatusSnapshot categoryStatusSnapshot,
+            @Value("${catalog.category.http.item-max-age:PT30S}") Duration itemMaxAge,
+            @Value("${catalog.category.http.list-max-age:PT0S}") Duration listMaxAge) {
+        this.categoryService = categoryService;
+        this.categoryExporter = categoryExporter;
+        this.categoryImporter = categoryImporter;
+        this.categoryStatusSnapshot = categoryStatusSnapshot;
+        this.categoryCacheControl = CacheControl.maxAge(itemMaxAge).cachePublic();
+        this.listCacheControl = CacheControl.maxAge(listMaxAge).cachePublic();
+    }
+
+    /**
+     * Retrieves a category by its ID.
+     * 
+     * A request with If-None-Match is first checked against the category
+     * version, which is served from the cache or a two-column query.
+     * 
+     * @param id      the category ID
+     * @param request the current request, for the conditional headers
+     * @return the category, or 304 if the client copy is current
+     */
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CategoryResponseDTO> getCategoryById(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = CategoryETags.of(categoryService.getCategoryVersion(id));
+            if (request.checkNotModified(etag)) {
+                return notModified(categoryCacheControl);
+            }
+        }
+
+        CategoryResponseDTO category = categoryService.getCategoryById(id);
+        return ResponseEntity.ok()
+                .eTag(CategoryETags.of(new CategoryVersion(category.getId(), category.getUpdatedAt())))
+                .cacheControl(categoryCacheControl)
+                .body(category);
+    }
+
+    /**
+     * Lists categories with keyset pagination.
+     * 
+     * @param cursor        the nextCursor of the previous page, if any
+     * @param size          the page size, between 1 and 100
+     * @param sort          the sort key of the first page (ID, NAME or
+     *                      CREATED_AT)
+     * @param direction     the sort direction of the first page (ASC or DESC)
+     * @param name          optional name prefix
+     * @param status        optional status
+     * @param createdAfter  optional lower bound of the creation date (ISO)
+     * @param createdBefore optional upper bound of the creation date (ISO)
+     * @param request       the current request, for the conditional headers
+     * @return one page of categories and the cursor of the next one, or 304 if
+     *         the catalog has not changed since the client copy
+     */
+
+    @GetMapping
+    public ResponseEntity<CategoryCursorPageDTO> getAllCategories(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) CategorySortKey sort,
+            @RequestParam(required = false) Sort.Direction direction,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            WebRequest request) {
+        // The same URL returns the same page as long as the catalog is unchanged.
+        // The version is read before the page, so a concurrent write can only
+        // make the ETag older than the body, never newer.
+        String etag = CategoryETags.of(categoryService.getCatalogVersion());
+        if (request.checkNotModified(etag)) {
+            return notModified(listCacheControl);
+        }
+
+        CategoryFilterDTO filter = new CategoryFilterDTO(name, status, createdAfter, createdBefore);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(listCacheControl)
+                .body(categoryService.getAllCategories(cursor, size, sort, direction, filter));
+    }
+
+    /**
+     * Lists every category with the given status, ordered by ID.
+     * 
+     * The body is the JSON kept by the status snapshot, written as is, and
+     * If-None-Match is answered from its ETag. Until the snapshot is built, or
+     * when no category has the status, the request goes through the service.
+     * 
+     * @param status  the status (ACTIVE, INACTIVE or DELETED)
+     * @param request the current request, for the conditional headers
+     * @return the categories, or 304 if the client copy is current
+     */
+
+    @GetMapping("/status/{status}")
+    public ResponseEntity<?> getCategoriesByStatus(@PathVariable Status status, WebRequest request) {
+        CategoryStatusView view = categoryStatusSnapshot.view(status).orElse(null);
+        if (view == null || view.categories().isEmpty()) {
+            return ResponseEntity.ok()
+                    .cacheControl(listCacheControl)
+                    .body(categoryService.getCategoryByStatus(status));
+        }
+
+        if (request.checkNotModified(view.etag())) {
+            return notModified(listCacheControl);
+        }
+        return ResponseEntity.ok()
+                .eTag(view.etag())
+                .cacheControl(listCacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(view.json());
+    }
+
+    /**
+     * Reads the change feed: the categories written after a watermark,
+     * soft-deleted ones included, in commit order.
+     * 
+     * Clients keep the returned watermark and pass it back on the next read;
+     * while hasMore is true they can read again right away.
+     * 
+     * @param watermark the watermark of the previous read, if any
+     * @param since     without a watermark, the date of the last
+     *                  synchronization (ISO); without either, the whole
+     *                  catalog is read
+     * @param size      the maximum number of changes, between 1 and 1000
+     * @return the changes and the next watermark
+     */
+
+    @GetMapping("/changes")
+    public ResponseEntity<CategoryChangesDTO> getCategoryChanges(
+            @RequestParam(required = false) String watermark,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(categoryService.getCategoryChanges(watermark, since, size));
+    }
+
+    /**
+     * Exports every category as NDJSON or CSV.
+     * 
+     * The body is streamed from a database cursor as it is written, so the
+     * catalog is never held in memory.
+     * 
+     * @param format "ndjson" (default) or "csv"
+     * @return the streamed export as an attachment
+     */
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCategories(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        CategoryExportFormat exportFormat = CategoryExportFormat.fromValue(format);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("categories." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> categoryExporter.export(exportFormat, out));
+    }
+
+    /**
+     * Imports categories from a CSV request body.
+     * 
+     * The body is parsed as it arrives and committed in chunks, so files with
+     * hundreds of thousands of rows can be loaded without buffering them.
+     * 
+     * @param body the CSV content, with a header row
+     * @return the import report
+     * @throws IOException if the request body cannot be read
+     */
+
+    @PostMapping(path = "/import", consumes = { "text/csv", "application/octet-stream" })
+    public ResponseEntity<CategoryImportReportDTO> importCategories(InputStream body) throws IOException {
+        return ResponseEntity.ok(categoryImporter.importCsv(body));
+    }
+
+    // checkNotModified has already set the status and the ETag header
+    private static <T> ResponseEntity<T> notModified(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+}
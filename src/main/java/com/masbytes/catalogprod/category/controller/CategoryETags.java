@@ -0,0 +1,45 @@
+package com.masbytes.catalogprod.category.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+
+/**
+ * Strong ETags of the category endpoints.
+ *
+ * A category is tagged with its ID and last update date, a listing with the
+ * three parts of the catalog version. Dates are encoded in microseconds, the
+ * precision of the updated_at column, so the tag of a cached category equals
+ * the one built from the database.
+ */
+
+final class CategoryETags {
+
+    private CategoryETags() {
+
+    }
+
+    static String of(CategoryVersion version) {
+        return "\"" + version.id() + "-" + micros(version.updatedAt()) + "\"";
+    }
+
+    static String of(CategoryCatalogVersion version) {
+        return "\"c" + orZero(version.lastChangeVersion()) + "-" + orZero(version.lastId()) + "-"
+                + micros(version.lastUpdatedAt()) + "\"";
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static String micros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return "0";
+        }
+        long micros = dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+        return Long.toHexString(micros);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.masbytes.catalogprod.category.dto;
+
+/**
+ * Outcome of one entry of a bulk category operation.
+ */
+
+public class CategoryBulkResultDTO {
+
+    /**
+     * Possible outcomes of a bulk entry.
+     */
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        UPDATED,
+        ALREADY_ACTIVE,
+        ALREADY_INACTIVE,
+        NOT_FOUND
+    }
+
+    /**
+     * Position of the entry in the request
+     */
+    private int index;
+
+    /**
+     * Normalized name of the entry, or null if the category was not found
+     */
+    private String name;
+
+    private Outcome outcome;
+
+    /**
+     * The created or updated category, its current state if it was left
+     * unchanged, or null if the entry was a duplicate or was not found
+     */
+    private CategoryResponseDTO category;
+
+    // No-args constructor
+    public CategoryBulkResultDTO() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryBulkResultDTO(int index, String name, Outcome outcome, CategoryResponseDTO category) {
+        this.index = index;
+        this.name = name;
+        this.outcome = outcome;
+        this.category = category;
+    }
+
+    // Getters
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public CategoryResponseDTO getCategory() {
+        return category;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryBulkResultDTO [index=" + index + ", name=" + name + ", outcome=" + outcome + ", category="
+                + category + "]";
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.masbytes.catalogprod.category.dto;
+
+import java.util.List;
+
+/**
+ * One read of the category change feed.
+ *
+ * Changes are ordered by change version, then by ID, and include soft-deleted
+ * categories (status DELETED, with their deletion date) as tombstones. The
+ * watermark is passed back on the next read; while hasMore is true the next
+ * read can follow immediately.
+ */
+
+public class CategoryChangesDTO {
+
+    private List<CategoryResponseDTO> changes;
+
+    private String watermark;
+
+    private boolean hasMore;
+
+    // No-args constructor
+    public CategoryChangesDTO() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryChangesDTO(List<CategoryResponseDTO> changes, String watermark, boolean hasMore) {
+        this.changes = changes;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    // Getters
+
+    public List<CategoryResponseDTO> getChanges() {
+        return changes;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryChangesDTO [changes=" + changes + ", watermark=" + watermark + ", hasMore=" + hasMore + "]";
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.masbytes.catalogprod.category.dto;
+
+import java.util.List;
+
+/**
+ * One page of categories fetched with keyset (cursor) pagination.
+ *
+ * There is no total count: clients keep requesting pages with
+ * {@code nextCursor} until {@code hasNext} is false.
+ */
+
+public class CategoryCursorPageDTO {
+
+    private List<CategoryResponseDTO> content;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    // No-args constructor
+    public CategoryCursorPageDTO() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryCursorPageDTO(List<CategoryResponseDTO> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // Getters
+
+    public List<CategoryResponseDTO> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryCursorPageDTO [content=" + content + ", nextCursor=" + nextCursor + ", hasNext=" + hasNext
+                + "]";
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.masbytes.catalogprod.category.dto;
+
+/**
+ * Outcome of one chunk of a category import, committed in its own
+ * transaction.
+ */
+
+public class CategoryImportChunkDTO {
+
+    /**
+     * Position of the chunk in the import, starting at 1
+     */
+    private int chunk;
+
+    /**
+     * Rows read from the file
+     */
+    private int rows;
+
+    private int imported;
+
+    /**
+     * Rows whose name already existed, in the database or earlier in the file
+     */
+    private int duplicates;
+
+    private int rejected;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    // No-args constructor
+    public CategoryImportChunkDTO() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryImportChunkDTO(int chunk, int rows, int imported, int duplicates, int rejected,
+            long elapsedMillis, double rowsPerSecond) {
+        this.chunk = chunk;
+        this.rows = rows;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    // Getters
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryImportChunkDTO [chunk=" + chunk + ", rows=" + rows + ", imported=" + imported
+                + ", duplicates=" + duplicates + ", rejected=" + rejected + ", elapsedMillis=" + elapsedMillis
+                + ", rowsPerSecond=" + rowsPerSecond + "]";
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.masbytes.catalogprod.category.dto;
+
+/**
+ * A CSV row rejected by a category import.
+ */
+
+public class CategoryImportErrorDTO {
+
+    /**
+     * Line of the file where the row starts
+     */
+    private long line;
+
+    /**
+     * Name found in the row, as written in the file
+     */
+    private String name;
+
+    private String message;
+
+    // No-args constructor
+    public CategoryImportErrorDTO() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryImportErrorDTO(long line, String name, String message) {
+        this.line = line;
+        this.name = name;
+        this.message = message;
+    }
+
+    // Getters
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryImportErrorDTO [line=" + line + ", name=" + name + ", message=" + message + "]";
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.masbytes.catalogprod.category.dto;
+
+import java.util.List;
+
+/**
+ * Summary of a category import.
+ */
+
+public class CategoryImportReportDTO {
+
+    /**
+     * How the rows were written to the database.
+     */
+    public enum Method {
+        BULK_COPY,
+        BATCH_INSERT
+    }
+
+    /**
+     * Write method used, or null if no row was written
+     */
+    private Method method;
+
+    private long rows;
+
+    private long imported;
+
+    private long duplicates;
+
+    private long rejected;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    private List<CategoryImportChunkDTO> chunks;
+
+    /**
+     * The first rejected rows, capped to keep the report small
+     */
+    private List<CategoryImportErrorDTO> errors;
+
+    // No-args constructor
+    public CategoryImportReportDTO() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryImportReportDTO(Method method, long rows, long imported, long duplicates, long rejected,
+            long elapsedMillis, double rowsPerSecond, List<CategoryImportChunkDTO> chunks,
+            List<CategoryImportErrorDTO> errors) {
+        this.method = method;
+        this.rows = rows;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.chunks = chunks;
+        this.errors = errors;
+    }
+
+    // Getters
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public List<CategoryImportChunkDTO> getChunks() {
+        return chunks;
+    }
+
+    public List<CategoryImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryImportReportDTO [method=" + method + ", rows=" + rows + ", imported=" + imported
+                + ", duplicates=" + duplicates + ", rejected=" + rejected + ", elapsedMillis=" + elapsedMillis
+                + ", rowsPerSecond=" + rowsPerSecond + ", chunks=" + chunks + ", errors=" + errors + "]";
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.masbytes.catalogprod.category.event;
+
+/**
+ * Event published by the category service whenever a category is created or
+ * modified.
+ *
+ * Listeners that keep derived state (caches, indexes) react to it once the
+ * surrounding transaction has committed.
+ *
+ * @param id           ID of the changed category
+ * @param previousName normalized name before the change, or null if the
+ *                     category is new or the name did not change
+ * @param currentName  normalized name after the change
+ */
+
+public record CategoryChangedEvent(Long id, String previousName, String currentName) {
+
+}
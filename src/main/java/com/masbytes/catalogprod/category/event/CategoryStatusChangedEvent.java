@@ -0,0 +1,18 @@
+package com.masbytes.catalogprod.category.event;
+
+import java.util.Collection;
+
+/**
+ * Event published once by a bulk status transition, covering every category
+ * it changed.
+ *
+ * Only the status (and dates) of the categories changed, never their names,
+ * so listeners keyed by name have nothing to update beyond what they cached
+ * for these IDs.
+ *
+ * @param ids IDs of the changed categories
+ */
+
+public record CategoryStatusChangedEvent(Collection<Long> ids) {
+
+}
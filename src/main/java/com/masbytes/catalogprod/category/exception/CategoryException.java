@@ -0,0 +1,74 @@
+package com.masbytes.catalogprod.category.exception;
+
+/**
+ * Base class of the exceptions thrown for expected outcomes of category
+ * operations: not found, already exists, invalid data and the like.
+ *
+ * They are mapped to 4xx responses by CategoryExceptionHandler and never
+ * logged, so by default they are created without a stack trace and without
+ * suppressed exceptions. Filling in the stack trace is most of the cost of a
+ * throw, and requests for unknown categories are frequent. Start the JVM with
+ * {@code -Dcatalog.category.exception.stack-traces=true} to record them while
+ * debugging. Causes keep their own stack traces either way.
+ *
+ * Subclasses thrown at a high rate can also pass a constant message prefix
+ * and the key it refers to: the message is then only concatenated when it is
+ * first read, typically once by the exception handler, and a throw costs no
+ * more than the allocation of the exception.
+ *
+ * Extends RuntimeException.
+ */
+
+public class CategoryException extends RuntimeException {
+
+    private static final boolean STACK_TRACES = Boolean.getBoolean("catalog.category.exception.stack-traces");
+
+    private final String messagePrefix;
+
+    private final Object messageKey;
+
+    // Racy but idempotent: every thread computes the same value
+    private String message;
+
+    public CategoryException(String message) {
+        this(message, (Throwable) null);
+    }
+
+    public CategoryException(String message, Throwable cause) {
+        super(message, cause, false, STACK_TRACES);
+        this.messagePrefix = null;
+        this.messageKey = null;
+    }
+
+    public CategoryException(Throwable cause) {
+        this(cause == null ? null : cause.toString(), cause);
+    }
+
+    /**
+     * Creates an exception whose message is the given constant prefix followed
+     * by the key, concatenated when the message is first read.
+     *
+     * @param messagePrefix the constant part of the message
+     * @param messageKey    the ID or name the message refers to
+     */
+
+    protected CategoryException(String messagePrefix, Object messageKey) {
+        super(null, null, false, STACK_TRACES);
+        this.messagePrefix = messagePrefix;
+        this.messageKey = messageKey;
+    }
+
+    @Override
+    public String getMessage() {
+        if (messagePrefix == null) {
+            return super.getMessage();
+        }
+        String result = message;
+        if (result == null) {
+            result = messagePrefix + messageKey;
+            message = result;
+        }
+        return result;
+    }
+
+}
@@ -9,6 +9,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyExistsException;
@@ -85,6 +86,8 @@ public class CategoryExceptionHandler {
      * Handles CategoryNotFoundException and returns a 404 Not Found response.
      * This exception is thrown when a requested category is not found.
      * This can occur during retrieval or deletion operations.
+     * The messages of the lookups by ID and name are concatenated here, the
+     * only place they are read.
      * 
      * @param ex      message
      * @param request request
@@ -137,6 +140,25 @@ public class CategoryExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, message, request.getRequestURI());
     }
 
+    /**
+     * Handles MethodArgumentTypeMismatchException and returns a 400 Bad Request
+     * response.
+     * This exception is thrown when a path variable or request parameter
+     * cannot be converted to the expected type, e.g. an unknown sort key.
+     * 
+     * @param ex      message
+     * @param request request
+     * @return ResponseEntity<ErrorResponse>
+     * @throws MethodArgumentTypeMismatchException
+     */
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex,
+            HttpServletRequest request) {
+        String message = String.format("Invalid value for parameter: %s", ex.getName());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, message, request.getRequestURI());
+    }
+
     /**
      * Handles HttpMessageNotReadableException and returns a 400 Bad Request
      * response.
@@ -1,15 +1,17 @@
 package com.masbytes.catalogprod.category.exception.database;
 
+import com.masbytes.catalogprod.category.exception.CategoryException;
+
 /**
  * Exception thrown when attempting to create a category that already exists in
  * the database.
  * Typically used to enforce uniqueness constraints on category identifiers or
  * names.
  * 
- * Extends RuntimeException.
+ * Extends CategoryException, so it is created without a stack trace.
  */
 
-public class CategoryAlreadyExistsException extends RuntimeException {
+public class CategoryAlreadyExistsException extends CategoryException {
 
     public CategoryAlreadyExistsException(String message) {
         super(message);
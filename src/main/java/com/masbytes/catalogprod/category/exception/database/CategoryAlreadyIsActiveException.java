@@ -1,13 +1,15 @@
 package com.masbytes.catalogprod.category.exception.database;
 
+import com.masbytes.catalogprod.category.exception.CategoryException;
+
 /**
  * Exception thrown when trying to activate a category that is already active.
  * Useful for enforcing logical state transitions within category management.
  * 
- * Extends RuntimeException.
+ * Extends CategoryException, so it is created without a stack trace.
  */
 
-public class CategoryAlreadyIsActiveException extends RuntimeException {
+public class CategoryAlreadyIsActiveException extends CategoryException {
 
     public CategoryAlreadyIsActiveException(String message) {
         super(message);
@@ -1,14 +1,16 @@
 package com.masbytes.catalogprod.category.exception.database;
 
+import com.masbytes.catalogprod.category.exception.CategoryException;
+
 /**
  * Exception thrown when attempting to deactivate a category that is already
  * inactive.
  * Prevents redundant or logically incorrect deactivation requests.
  * 
- * Extends RuntimeException.
+ * Extends CategoryException, so it is created without a stack trace.
  */
 
-public class CategoryAlreadyIsInactiveException extends RuntimeException {
+public class CategoryAlreadyIsInactiveException extends CategoryException {
 
     public CategoryAlreadyIsInactiveException(String message) {
         super(message);
@@ -1,13 +1,22 @@
 package com.masbytes.catalogprod.category.exception.database;
 
+import com.masbytes.catalogprod.category.exception.CategoryException;
+
 /**
  * Exception thrown when a requested category cannot be found in the database.
  * This may occur during retrieval, update, or delete operations.
  * 
- * Extends RuntimeException.
+ * Extends CategoryException, so it is created without a stack trace. The
+ * lookups by ID and name, the paths probed with unknown keys, use
+ * {@link #forId(Long)} and {@link #forName(String)}, whose messages are only
+ * concatenated when read.
  */
 
-public class CategoryNotFoundException extends RuntimeException {
+public class CategoryNotFoundException extends CategoryException {
+
+    private static final String ID_MESSAGE = "Category not found with ID: ";
+
+    private static final String NAME_MESSAGE = "Category not found with name: ";
 
     public CategoryNotFoundException(String message) {
         super(message);
@@ -21,4 +30,32 @@ public class CategoryNotFoundException extends RuntimeException {
         super(cause);
     }
 
+    private CategoryNotFoundException(String messagePrefix, Object messageKey) {
+        super(messagePrefix, messageKey);
+    }
+
+    /**
+     * Returns the exception of a lookup by an ID that does not exist.
+     *
+     * @param id the category ID
+     * @return the exception, with the message "Category not found with ID: "
+     *         followed by the ID
+     */
+
+    public static CategoryNotFoundException forId(Long id) {
+        return new CategoryNotFoundException(ID_MESSAGE, id);
+    }
+
+    /**
+     * Returns the exception of a lookup by a name that does not exist.
+     *
+     * @param normalizedName the trimmed, upper-cased category name
+     * @return the exception, with the message "Category not found with name: "
+     *         followed by the name
+     */
+
+    public static CategoryNotFoundException forName(String normalizedName) {
+        return new CategoryNotFoundException(NAME_MESSAGE, normalizedName);
+    }
+
 }
@@ -1,14 +1,16 @@
 package com.masbytes.catalogprod.category.exception.validation;
 
+import com.masbytes.catalogprod.category.exception.CategoryException;
+
 /**
  * Exception thrown when the provided data for a category is invalid or fails
  * business validation rules.
  * Common causes include null values, invalid formats, or constraint violations.
  * 
- * Extends RuntimeException.
+ * Extends CategoryException, so it is created without a stack trace.
  */
 
-public class CategoryInvalidDataException extends RuntimeException {
+public class CategoryInvalidDataException extends CategoryException {
 
     public CategoryInvalidDataException(String message) {
         super(message);
@@ -5,12 +5,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
+import org.springframework.stereotype.Component;
+
 import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
 import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
 import com.masbytes.catalogprod.category.dto.UpdateCategoryDTO;
 import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.model.CategoryNames;
 import com.masbytes.catalogprod.enums.Status;
 
+@Component
 public class CategoryMapper {
 
     /**
@@ -26,7 +30,7 @@ public class CategoryMapper {
         }
 
         Category category = new Category();
-        category.setName(dto.getName().trim().toUpperCase(Locale.ROOT));
+        category.setName(CategoryNames.normalize(dto.getName()));
         category.setDescription(dto.getDescription().trim().toUpperCase(Locale.ROOT));
         category.setStatus(Status.ACTIVE);
         return category;
@@ -69,11 +73,11 @@ public class CategoryMapper {
         }
 
         if (dto.getName() != null && !dto.getName().isBlank()) {
-            entity.setName(dto.getName().trim().toUpperCase());
+            entity.setName(CategoryNames.normalize(dto.getName()));
         }
 
         if (dto.getDescription() != null && !dto.getDescription().isBlank()) {
-            entity.setDescription(dto.getDescription().trim().toUpperCase());
+            entity.setDescription(dto.getDescription().trim().toUpperCase(Locale.ROOT));
         }
 
         // Solo actualizamos status si no es DELETED
@@ -0,0 +1,63 @@
+package com.masbytes.catalogprod.category.metrics;
+
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyExistsException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsActiveException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsInactiveException;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+
+/**
+ * Outcome tag of the category metrics, derived from the exception a call
+ * ended with.
+ */
+
+public enum CategoryOutcome {
+
+    SUCCESS("success"),
+    NOT_FOUND("not-found"),
+    CONFLICT("conflict"),
+    INVALID("invalid"),
+
+    /**
+     * Any exception outside category.exception
+     */
+    ERROR("error");
+
+    private final String tag;
+
+    CategoryOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the value used in the {@code outcome} tag
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Classifies the exception a call ended with.
+     *
+     * @param ex the exception, or null if the call succeeded
+     * @return the matching outcome
+     */
+
+    public static CategoryOutcome of(Throwable ex) {
+        if (ex == null) {
+            return SUCCESS;
+        }
+        if (ex instanceof CategoryNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (ex instanceof CategoryAlreadyExistsException || ex instanceof CategoryAlreadyIsActiveException
+                || ex instanceof CategoryAlreadyIsInactiveException) {
+            return CONFLICT;
+        }
+        if (ex instanceof CategoryInvalidDataException) {
+            return INVALID;
+        }
+        return ERROR;
+    }
+
+}
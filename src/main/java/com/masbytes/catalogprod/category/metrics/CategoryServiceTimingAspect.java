@@ -0,0 +1,94 @@
+package com.masbytes.catalogprod.category.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.masbytes.catalogprod.category.service.CategoryService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every {@link CategoryService} call in the
+ * {@value #METRIC_NAME} timer, tagged by method and {@link CategoryOutcome}.
+ *
+ * Runs outside the transaction advice, so commit time is included. The timers
+ * of each method are resolved once and kept in an array indexed by outcome,
+ * so a call only costs a map lookup and a timer update. Percentile
+ * histograms are enabled in application.properties.
+ */
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CategoryServiceTimingAspect {
+
+    public static final String METRIC_NAME = "catalog.category.service";
+
+    private static final CategoryOutcome[] OUTCOMES = CategoryOutcome.values();
+
+    private final MeterRegistry registry;
+
+    private final ConcurrentMap<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public CategoryServiceTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.masbytes.catalogprod.category.service.CategoryService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        CategoryOutcome outcome = CategoryOutcome.SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = CategoryOutcome.of(ex);
+            throw ex;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timers.computeIfAbsent(method, this::register)[outcome.ordinal()]
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] register(Method method) {
+        String name = methodTag(method);
+        Timer[] byOutcome = new Timer[OUTCOMES.length];
+        for (CategoryOutcome outcome : OUTCOMES) {
+            byOutcome[outcome.ordinal()] = Timer.builder(METRIC_NAME)
+                    .description("Latency of CategoryService calls")
+                    .tag("method", name)
+                    .tag("outcome", outcome.getTag())
+                    .register(registry);
+        }
+        return byOutcome;
+    }
+
+    /**
+     * The method name, plus its parameter types when it is overloaded.
+     */
+    static String methodTag(Method method) {
+        long overloads = Arrays.stream(CategoryService.class.getMethods())
+                .filter(candidate -> candidate.getName().equals(method.getName()))
+                .count();
+        if (overloads <= 1) {
+            return method.getName();
+        }
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", method.getName() + "(", ")"));
+    }
+
+}
@@ -7,30 +7,58 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "category", schema = "catalog")
+@Table(name = "category", schema = "catalog", indexes = {
+        @Index(name = Category.NAME_NORMALIZED_INDEX, columnList = "name_normalized", unique = true),
+        @Index(name = "idx_category_name", columnList = "name"),
+        @Index(name = "idx_category_status", columnList = "status"),
+        @Index(name = "idx_category_created_at", columnList = "created_at"),
+        @Index(name = "idx_category_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_category_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_category_change_version", columnList = "change_version, id")
+})
 public class Category extends AuditingEntity {
 
+    /**
+     * Unique index on name_normalized, the final guard against duplicate names
+     */
+    public static final String NAME_NORMALIZED_INDEX = "uk_category_name_normalized";
+
     /**
      * ID of the category
+     * Drawn from a sequence in blocks of 50 (pooled-lo optimizer), so inserts
+     * do not need a round trip each and can be sent as JDBC batches
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", schema = "catalog", allocationSize = 50)
     @Column(name = "id", nullable = false, unique = true)
     private Long id;
 
     /**
      * Name of the category
      */
-    @Column(name = "name", nullable = false, unique = true, length = 50)
+    @Column(name = "name", nullable = false, length = 50)
     @NotBlank(message = "NAME field is required")
     @Size(min = 3, max = 50, message = "NAME field must be between 3 and 50 characters")
     private String name;
 
+    /**
+     * Name of the category as produced by {@link CategoryNames#normalize}
+     * Unique; exact, prefix and partial name lookups all run against it
+     */
+    @Column(name = "name_normalized", nullable = false, length = 50)
+    private String nameNormalized;
+
     /**
      * Description of the category
      */
@@ -39,6 +67,23 @@ public class Category extends AuditingEntity {
     @Size(min = 5, max = 255, message = "DESCRIPTION field must be between 5 and 255 characters")
     private String description;
 
+    /**
+     * Version of the row, for optimistic locking
+     * Incremented by Hibernate on entity updates and by the single-statement
+     * status transitions of CategoryRepository
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Change version of the last write to the row, from CategoryChangeVersions
+     * Increases in commit order across the whole catalog; rows written before
+     * the column existed, or by scripts, keep 0
+     */
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
     // No-args constructor
     public Category() {
     }
@@ -47,6 +92,7 @@ public class Category extends AuditingEntity {
     public Category(String name, String description) {
         super();
         this.name = name;
+        this.nameNormalized = CategoryNames.normalize(name);
         this.description = description;
     }
 
@@ -55,6 +101,7 @@ public class Category extends AuditingEntity {
         super();
         this.id = id;
         this.name = name;
+        this.nameNormalized = CategoryNames.normalize(name);
         this.description = description;
     }
 
@@ -75,6 +122,11 @@ public class Category extends AuditingEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameNormalized = CategoryNames.normalize(name);
+    }
+
+    public String getNameNormalized() {
+        return nameNormalized;
     }
 
     public String getDescription() {
@@ -85,6 +137,27 @@ public class Category extends AuditingEntity {
         this.description = description;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(Long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    /**
+     * Derives the normalized name at write time, whatever path set the name.
+     */
+    @PrePersist
+    @PreUpdate
+    void normalizeName() {
+        this.nameNormalized = CategoryNames.normalize(name);
+    }
+
     @Override
     public String toString() {
         return String.format("Category [id=%s, name=%s, description=%s]",
@@ -0,0 +1,76 @@
+package com.masbytes.catalogprod.category.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * The single normalization routine of category names.
+ *
+ * Used for the name written by the API, for the {@code name_normalized}
+ * column that enforces uniqueness, and for every lookup against it, so the
+ * three always agree.
+ */
+
+public final class CategoryNames {
+
+    private CategoryNames() {
+
+    }
+
+    /**
+     * Normalizes a category name: Unicode NFC composition, leading and
+     * trailing whitespace removed, inner whitespace runs collapsed to one
+     * space, and upper case in {@link Locale#ROOT}.
+     *
+     * @param name the raw name
+     * @return the normalized name, or null if the name is null
+     */
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        String composed = compose(name);
+
+        StringBuilder normalized = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes the text of a partial name search: Unicode NFC composition,
+     * leading and trailing whitespace removed and upper case in
+     * {@link Locale#ROOT}. Inner whitespace is kept as typed, so the text is
+     * matched as it was written against the normalized names.
+     *
+     * @param text the raw search text
+     * @return the normalized text, or null if the text is null
+     */
+
+    public static String normalizeSearchTerm(String text) {
+        if (text == null) {
+            return null;
+        }
+        return compose(text).trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Precomposed and decomposed accents must map to the same key
+    private static String compose(String text) {
+        return Normalizer.isNormalized(text, Normalizer.Form.NFC) ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+
+/**
+ * Writes category changes to the outbox table.
+ *
+ * Must be called inside the transaction of the change, so the event is
+ * committed, or rolled back, together with it; the CategoryOutboxRelay
+ * delivers it afterwards. Events carry the change version of that
+ * transaction, which orders them by commit.
+ */
+
+@Component
+public class CategoryOutbox {
+
+    private final CategoryOutboxRepository categoryOutboxRepository;
+
+    private final CategoryChangeVersions categoryChangeVersions;
+
+    private final ObjectMapper objectMapper;
+
+    public CategoryOutbox(CategoryOutboxRepository categoryOutboxRepository,
+            CategoryChangeVersions categoryChangeVersions, ObjectMapper objectMapper) {
+        this.categoryOutboxRepository = categoryOutboxRepository;
+        this.categoryChangeVersions = categoryChangeVersions;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records a change of one category.
+     *
+     * @param type     the kind of change
+     * @param category the category after the change
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CategoryOutboxEventType type, CategoryResponseDTO category) {
+        categoryOutboxRepository.save(toEvent(categoryChangeVersions.next(), type, category, LocalDateTime.now()));
+    }
+
+    /**
+     * Records the same kind of change for several categories, as one JDBC
+     * batch.
+     *
+     * @param type       the kind of change
+     * @param categories the categories after the change
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(CategoryOutboxEventType type, Collection<CategoryResponseDTO> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
+        long changeVersion = categoryChangeVersions.next();
+        LocalDateTime now = LocalDateTime.now();
+        List<CategoryOutboxEvent> events = categories.stream()
+                .map(category -> toEvent(changeVersion, type, category, now))
+                .toList();
+        categoryOutboxRepository.saveAll(events);
+    }
+
+    private CategoryOutboxEvent toEvent(long changeVersion, CategoryOutboxEventType type,
+            CategoryResponseDTO category, LocalDateTime now) {
+        try {
+            return new CategoryOutboxEvent(changeVersion, category.getId(), type, category.getUpdatedAt(),
+                    objectMapper.writeValueAsString(category), now);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize category " + category.getId(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Falls back to the in-memory sink when no other CategoryOutboxSink (a broker
+ * producer) is defined.
+ */
+
+@Configuration(proxyBeanMethods = false)
+public class CategoryOutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(CategoryOutboxSink.class)
+    public InMemoryCategoryOutboxSink inMemoryCategoryOutboxSink(
+            @Value("${catalog.category.outbox.in-memory-capacity:10000}") int capacity) {
+        return new InMemoryCategoryOutboxSink(capacity);
+    }
+
+}
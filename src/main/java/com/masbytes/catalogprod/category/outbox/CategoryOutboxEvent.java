@@ -0,0 +1,134 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Nationalized;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * A category change waiting in the outbox, written in the same transaction as
+ * the change itself.
+ */
+
+@Entity
+@Table(name = "category_outbox", schema = "catalog", indexes = {
+        @Index(name = "idx_category_outbox_published_at", columnList = "published_at, change_version, id")
+})
+public class CategoryOutboxEvent {
+
+    /**
+     * ID of the event, drawn from a sequence in blocks of 50 per instance, so
+     * it only orders the events of one transaction
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_outbox_seq")
+    @SequenceGenerator(name = "category_outbox_seq", sequenceName = "category_outbox_seq", schema = "catalog",
+            allocationSize = 50)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    /**
+     * Change version of the transaction that wrote the event, from
+     * CategoryChangeVersions; increasing in commit order
+     */
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    /**
+     * ID of the changed category
+     */
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    /**
+     * Kind of change
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private CategoryOutboxEventType type;
+
+    /**
+     * Last update date of the category after the change, at full precision
+     */
+    @Column(name = "category_updated_at")
+    private LocalDateTime categoryUpdatedAt;
+
+    /**
+     * The category after the change, as returned by the API (JSON)
+     */
+    @Nationalized
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    /**
+     * Date the event was written
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Date the relay delivered the event, or null while pending
+     */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // No-args constructor
+    protected CategoryOutboxEvent() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryOutboxEvent(Long changeVersion, Long categoryId, CategoryOutboxEventType type,
+            LocalDateTime categoryUpdatedAt, String payload, LocalDateTime createdAt) {
+        this.changeVersion = changeVersion;
+        this.categoryId = categoryId;
+        this.type = type;
+        this.categoryUpdatedAt = categoryUpdatedAt;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public CategoryOutboxEventType getType() {
+        return type;
+    }
+
+    public LocalDateTime getCategoryUpdatedAt() {
+        return categoryUpdatedAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+}
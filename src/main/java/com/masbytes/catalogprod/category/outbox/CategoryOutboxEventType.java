@@ -0,0 +1,27 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * Kind of change recorded in the category outbox.
+ */
+
+public enum CategoryOutboxEventType {
+    CREATED,
+    UPDATED,
+    ENABLED,
+    DISABLED,
+    DELETED;
+
+    /**
+     * @param target the status a category was moved to
+     * @return the event type of that transition
+     */
+    public static CategoryOutboxEventType of(Status target) {
+        return switch (target) {
+            case ACTIVE -> ENABLED;
+            case INACTIVE -> DISABLED;
+            case DELETED -> DELETED;
+        };
+    }
+}
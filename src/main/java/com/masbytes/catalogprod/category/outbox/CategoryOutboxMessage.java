@@ -0,0 +1,32 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * A category change as delivered to the outbox sinks.
+ *
+ * Messages arrive in commit order: by change version, then by event ID.
+ * Delivery is at least once: consumers skip event IDs they have already
+ * applied, and events whose changeVersion is lower than the one of the state
+ * they hold for that category.
+ *
+ * @param eventId           ID of the outbox event
+ * @param changeVersion     change version of the transaction that made the
+ *                          change
+ * @param categoryId        ID of the changed category
+ * @param type              kind of change
+ * @param categoryUpdatedAt last update date of the category after the change
+ * @param payload           the category after the change, as JSON
+ * @param createdAt         date the change was committed
+ */
+
+public record CategoryOutboxMessage(Long eventId, Long changeVersion, Long categoryId,
+        CategoryOutboxEventType type, LocalDateTime categoryUpdatedAt, String payload, LocalDateTime createdAt) {
+
+    static CategoryOutboxMessage of(CategoryOutboxEvent event) {
+        return new CategoryOutboxMessage(event.getId(), event.getChangeVersion(), event.getCategoryId(),
+                event.getType(),
+                event.getCategoryUpdatedAt(), event.getPayload(), event.getCreatedAt());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Position of a consumer in the outbox: the (change version, event ID) pair of
+ * the last event delivered to it. Every event that sorts before it in commit
+ * order has been delivered.
+ */
+
+@Entity
+@Table(name = "category_outbox_offset", schema = "catalog")
+public class CategoryOutboxOffset {
+
+    /**
+     * Name of the consumer, as returned by {@link CategoryOutboxSink#consumer()}
+     */
+    @Id
+    @Column(name = "consumer", nullable = false, length = 100)
+    private String consumer;
+
+    /**
+     * Change version of the last event delivered to the consumer
+     */
+    @Column(name = "last_change_version", nullable = false)
+    private Long lastChangeVersion;
+
+    /**
+     * ID of the last event delivered to the consumer
+     */
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    /**
+     * Date of the last delivery
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // No-args constructor
+    protected CategoryOutboxOffset() {
+
+    }
+
+    // Constructor with parameters
+    public CategoryOutboxOffset(String consumer, Long lastChangeVersion, Long lastEventId,
+            LocalDateTime updatedAt) {
+        this.consumer = consumer;
+        this.lastChangeVersion = lastChangeVersion;
+        this.lastEventId = lastEventId;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters
+    public String getConsumer() {
+        return consumer;
+    }
+
+    public Long getLastChangeVersion() {
+        return lastChangeVersion;
+    }
+
+    public Long getLastEventId() {
+        return lastEventId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void advance(Long lastChangeVersion, Long lastEventId, LocalDateTime updatedAt) {
+        this.lastChangeVersion = lastChangeVersion;
+        this.lastEventId = lastEventId;
+        this.updatedAt = updatedAt;
+    }
+
+}
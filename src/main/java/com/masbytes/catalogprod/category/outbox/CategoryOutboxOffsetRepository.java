@@ -0,0 +1,9 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryOutboxOffsetRepository extends JpaRepository<CategoryOutboxOffset, String> {
+
+}
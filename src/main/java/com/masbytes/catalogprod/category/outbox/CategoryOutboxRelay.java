@@ -0,0 +1,176 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Drains the category outbox into the configured sinks.
+ *
+ * Every {@code catalog.category.outbox.poll-interval} the relay takes up to
+ * {@code catalog.category.outbox.batch-size} pending events in commit order,
+ * hands them to every sink, marks them as published and advances the offset
+ * of each consumer, all in one transaction; it repeats while full batches
+ * come back. If a sink fails, the batch stays pending and is sent again, so
+ * delivery is at least once. Published events are purged after
+ * {@code catalog.category.outbox.retention}.
+ *
+ * Commit order is the order of the change versions the events were written
+ * with (see CategoryChangeVersions), then of their IDs within a version; the
+ * IDs alone are drawn in blocks per instance and do not order events across
+ * transactions.
+ *
+ * The change version reached by each consumer is exposed as the
+ * {@code catalog.category.outbox.offset} gauge, next to the pending events
+ * and the number of relayed events.
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "catalog.category.outbox", name = "relay-enabled", matchIfMissing = true)
+public class CategoryOutboxRelay implements MeterBinder {
+
+    private final CategoryOutboxRepository categoryOutboxRepository;
+
+    private final CategoryOutboxOffsetRepository categoryOutboxOffsetRepository;
+
+    private final List<CategoryOutboxSink> sinks;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final Duration retention;
+
+    // Last offset of each consumer committed by this instance, for the gauges
+    private final Map<String, Long> offsets = new ConcurrentHashMap<>();
+
+    private final LongAdder relayed = new LongAdder();
+
+    public CategoryOutboxRelay(CategoryOutboxRepository categoryOutboxRepository,
+            CategoryOutboxOffsetRepository categoryOutboxOffsetRepository, List<CategoryOutboxSink> sinks,
+            PlatformTransactionManager transactionManager,
+            @Value("${catalog.category.outbox.batch-size:500}") int batchSize,
+            @Value("${catalog.category.outbox.retention:P7D}") Duration retention) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("catalog.category.outbox.batch-size must be positive");
+        }
+        this.categoryOutboxRepository = categoryOutboxRepository;
+        this.categoryOutboxOffsetRepository = categoryOutboxOffsetRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Relays pending events until the outbox is drained.
+     *
+     * @return the number of events relayed
+     */
+
+    @Scheduled(fixedDelayString = "${catalog.category.outbox.poll-interval:PT1S}")
+    public int relay() {
+        int total = 0;
+        int relayedInBatch;
+        do {
+            relayedInBatch = transactionTemplate.execute(status -> relayBatch());
+            total += relayedInBatch;
+        } while (relayedInBatch == batchSize);
+        return total;
+    }
+
+    /**
+     * Deletes the events published longer than the retention ago.
+     *
+     * @return the number of events deleted
+     */
+
+    @Scheduled(fixedDelayString = "${catalog.category.outbox.purge-interval:PT1H}")
+    public int purge() {
+        return transactionTemplate.execute(status -> categoryOutboxRepository
+                .deletePublishedBefore(LocalDateTime.now().minus(retention)));
+    }
+
+    /**
+     * Returns the committed offset of every consumer, across instances.
+     *
+     * @return the change version of the last event delivered to each consumer
+     */
+
+    public Map<String, Long> offsets() {
+        return categoryOutboxOffsetRepository.findAll().stream()
+                .collect(Collectors.toMap(CategoryOutboxOffset::getConsumer,
+                        CategoryOutboxOffset::getLastChangeVersion));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CategoryOutboxSink sink : sinks) {
+            Gauge.builder("catalog.category.outbox.offset", offsets,
+                    map -> map.getOrDefault(sink.consumer(), 0L))
+                    .description("Change version of the last outbox event delivered to the consumer")
+                    .tag("consumer", sink.consumer())
+                    .register(registry);
+        }
+        Gauge.builder("catalog.category.outbox.pending", categoryOutboxRepository,
+                CategoryOutboxRepository::countByPublishedAtIsNull)
+                .description("Outbox events waiting for the relay")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.outbox.relayed", relayed, LongAdder::sum)
+                .register(registry);
+    }
+
+    private int relayBatch() {
+        List<CategoryOutboxEvent> events = categoryOutboxRepository.findPending(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CategoryOutboxMessage> messages = events.stream().map(CategoryOutboxMessage::of).toList();
+        for (CategoryOutboxSink sink : sinks) {
+            sink.send(messages);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        CategoryOutboxEvent last = events.get(events.size() - 1);
+        Long lastChangeVersion = last.getChangeVersion();
+        categoryOutboxRepository.markPublished(events.stream().map(CategoryOutboxEvent::getId).toList(), now);
+        for (CategoryOutboxSink sink : sinks) {
+            CategoryOutboxOffset offset = categoryOutboxOffsetRepository.findById(sink.consumer())
+                    .orElseGet(() -> new CategoryOutboxOffset(sink.consumer(), lastChangeVersion, last.getId(), now));
+            offset.advance(lastChangeVersion, last.getId(), now);
+            categoryOutboxOffsetRepository.save(offset);
+        }
+
+        // Publish the new offsets and counts only once the batch commits
+        int size = events.size();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sinks.forEach(sink -> offsets.put(sink.consumer(), lastChangeVersion));
+                relayed.add(size);
+            }
+        });
+        return size;
+    }
+
+}
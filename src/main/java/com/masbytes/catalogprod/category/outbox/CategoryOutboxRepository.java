@@ -0,0 +1,62 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface CategoryOutboxRepository extends JpaRepository<CategoryOutboxEvent, Long> {
+
+    /**
+     * Returns the oldest pending events, locked until the end of the
+     * transaction so that relays on other instances wait instead of sending
+     * them twice.
+     *
+     * Events are ordered by change version, which grows in commit order, and
+     * then by ID: an event committed later always sorts after the ones
+     * returned here.
+     *
+     * @param limit the maximum number of events
+     * @return the pending events, in commit order
+     */
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM CategoryOutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.changeVersion, e.id")
+    List<CategoryOutboxEvent> findPending(Limit limit);
+
+    /**
+     * Marks events as delivered.
+     *
+     * @param ids the event IDs
+     * @param now the delivery date
+     * @return the number of events updated
+     */
+
+    @Modifying
+    @Query("UPDATE CategoryOutboxEvent e SET e.publishedAt = :now WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes the events delivered before the given date.
+     *
+     * @param before the retention limit
+     * @return the number of events deleted
+     */
+
+    @Modifying
+    @Query("DELETE FROM CategoryOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    long countByPublishedAtIsNull();
+
+}
@@ -0,0 +1,26 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the category outbox relay, typically a message broker topic.
+ */
+
+public interface CategoryOutboxSink {
+
+    /**
+     * @return the consumer name under which the relay keeps the offset of this
+     *         sink
+     */
+    String consumer();
+
+    /**
+     * Delivers a batch of changes, in commit order (change version, then
+     * event ID). Throwing leaves the
+     * whole batch pending, so it is delivered again on the next poll.
+     *
+     * @param messages the changes to deliver
+     */
+    void send(List<CategoryOutboxMessage> messages);
+
+}
@@ -0,0 +1,52 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sink that keeps the latest relayed changes in memory, standing in for a
+ * broker locally and in tests. Only the last {@code capacity} messages are
+ * kept.
+ */
+
+public class InMemoryCategoryOutboxSink implements CategoryOutboxSink {
+
+    public static final String CONSUMER = "in-memory";
+
+    private final Deque<CategoryOutboxMessage> messages = new ArrayDeque<>();
+
+    private final int capacity;
+
+    public InMemoryCategoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String consumer() {
+        return CONSUMER;
+    }
+
+    @Override
+    public synchronized void send(List<CategoryOutboxMessage> batch) {
+        for (CategoryOutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    /**
+     * @return the kept messages, oldest first
+     */
+    public synchronized List<CategoryOutboxMessage> messages() {
+        return new ArrayList<>(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.masbytes.catalogprod.category.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.category.repository.CategoryChange;
+
+/**
+ * Position of a client in the change feed: the (change version, ID) pair of
+ * the last change it received. The feed returns the categories that sort
+ * after it by change version, then by ID.
+ *
+ * Change versions grow in commit order (see CategoryChangeVersions), so a
+ * change that commits after the client read can only sort after its
+ * watermark and is never skipped.
+ *
+ * Clients only ever see it as an opaque, URL-safe token.
+ *
+ * @param changeVersion the change version of the last change received
+ * @param id            the ID of the last change received
+ */
+
+public record CategoryChangeWatermark(long changeVersion, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Returns the watermark that precedes every change, for a first full read.
+     * Rows never written through the service have change version 0 and are
+     * included.
+     *
+     * @return the initial watermark
+     */
+
+    public static CategoryChangeWatermark start() {
+        return new CategoryChangeWatermark(0L, 0L);
+    }
+
+    /**
+     * Builds the watermark that points right after the given change.
+     *
+     * @param last the last change returned
+     * @return the watermark for the next read
+     */
+
+    public static CategoryChangeWatermark after(CategoryChange last) {
+        return new CategoryChangeWatermark(last.changeVersion(), last.category().getId());
+    }
+
+    /**
+     * Builds the watermark that points after every change up to the given
+     * change version, included.
+     *
+     * @param changeVersion the last change version already seen
+     * @return the watermark for the next read
+     */
+
+    public static CategoryChangeWatermark upTo(long changeVersion) {
+        return new CategoryChangeWatermark(changeVersion, Long.MAX_VALUE);
+    }
+
+    /**
+     * Encodes the watermark as an opaque token.
+     *
+     * @return the Base64 URL-safe token
+     */
+
+    public String encode() {
+        String raw = changeVersion + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the opaque watermark
+     * @return the decoded watermark
+     * @throws CategoryInvalidDataException if the token is malformed
+     */
+
+    public static CategoryChangeWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new CategoryInvalidDataException("Invalid change watermark");
+            }
+            return new CategoryChangeWatermark(Long.parseLong(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new CategoryInvalidDataException("Invalid change watermark", ex);
+        }
+    }
+
+}
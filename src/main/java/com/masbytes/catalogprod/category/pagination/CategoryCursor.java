@@ -0,0 +1,86 @@
+package com.masbytes.catalogprod.category.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+
+/**
+ * Position of a keyset page: the sort key, the direction and the (sort value,
+ * ID) pair of the last category returned.
+ *
+ * Clients only ever see it as an opaque, URL-safe token.
+ *
+ * @param sortKey   the column the pages are sorted by
+ * @param direction the sort direction
+ * @param lastValue the sort value of the last category returned, or null if
+ *                  it has none
+ * @param lastId    the ID of the last category returned
+ */
+
+public record CategoryCursor(CategorySortKey sortKey, Sort.Direction direction, String lastValue, Long lastId) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Builds the cursor that points right after the given category.
+     *
+     * @param sortKey   the column the pages are sorted by
+     * @param direction the sort direction
+     * @param last      the last category of the current page
+     * @return the cursor for the next page
+     */
+
+    public static CategoryCursor after(CategorySortKey sortKey, Sort.Direction direction, CategoryResponseDTO last) {
+        return new CategoryCursor(sortKey, direction, sortKey.valueOf(last), last.getId());
+    }
+
+    /**
+     * Encodes the cursor as an opaque token.
+     *
+     * @return the Base64 URL-safe token
+     */
+
+    public String encode() {
+        // The value goes last because it may itself contain the separator,
+        // and is left out when there is none
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + lastId
+                + (lastValue != null ? SEPARATOR + lastValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the opaque continuation token
+     * @return the decoded cursor
+     * @throws CategoryInvalidDataException if the token is malformed
+     */
+
+    public static CategoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length < 3) {
+                throw new CategoryInvalidDataException("Invalid pagination cursor");
+            }
+
+            CategorySortKey sortKey = CategorySortKey.valueOf(parts[0]);
+            String lastValue = parts.length == 4 ? parts[3] : null;
+            if (lastValue != null) {
+                // Parse the value once so a tampered token fails here and not in the query
+                sortKey.parse(lastValue);
+            } else if (!sortKey.isNullable()) {
+                throw new CategoryInvalidDataException("Invalid pagination cursor");
+            }
+            return new CategoryCursor(sortKey, Sort.Direction.valueOf(parts[1]), lastValue, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new CategoryInvalidDataException("Invalid pagination cursor", ex);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.masbytes.catalogprod.category.pagination;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+
+/**
+ * Columns that keyset (cursor) pagination can sort categories by.
+ *
+ * The category ID is always appended as a tie-breaker, so every sort key
+ * yields a total order. Categories without a value for a nullable key sort
+ * after all the others, in either direction.
+ */
+
+public enum CategorySortKey {
+
+    ID("id", false, CategoryResponseDTO::getId, Long::valueOf),
+    NAME("name", false, CategoryResponseDTO::getName, Function.identity()),
+    // Rows written before auditing was enabled have no creation date
+    CREATED_AT("createdAt", true, CategoryResponseDTO::getCreatedAt, LocalDateTime::parse);
+
+    private final String property;
+
+    private final boolean nullable;
+
+    private final Function<CategoryResponseDTO, Object> extractor;
+
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    CategorySortKey(String property, boolean nullable, Function<CategoryResponseDTO, Object> extractor,
+            Function<String, ? extends Comparable<?>> parser) {
+        this.property = property;
+        this.nullable = nullable;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /**
+     * @return the entity property this key sorts by
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @return whether categories may have no value for this key
+     */
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    /**
+     * Reads the sort value of a category as a string.
+     *
+     * @param dto the category
+     * @return the sort value, or null if the category has none
+     */
+
+    public String valueOf(CategoryResponseDTO dto) {
+        Object value = extractor.apply(dto);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Parses a sort value previously produced by {@link #valueOf}.
+     *
+     * @param value the string form of the sort value
+     * @return the typed sort value
+     */
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+}
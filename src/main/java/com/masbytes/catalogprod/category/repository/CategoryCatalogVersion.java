@@ -0,0 +1,27 @@
+package com.masbytes.catalogprod.category.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of the whole catalog: the latest change version, the highest ID and
+ * the latest update date.
+ *
+ * Every write made through the service stamps its rows with a change version
+ * taken inside its transaction and increasing in commit order, so any change
+ * to a listing raises the first, even one whose update date is older than the
+ * latest one because it was stamped before a slower commit. The highest ID and
+ * the latest update date still catch rows inserted or updated by scripts that
+ * leave change_version alone. Each value is read with a single seek on an
+ * index.
+ *
+ * @param lastChangeVersion latest change version, or null if the catalog is
+ *                          empty
+ * @param lastId            highest category ID, or null if the catalog is
+ *                          empty
+ * @param lastUpdatedAt     latest update date, or null if the catalog is
+ *                          empty
+ */
+
+public record CategoryCatalogVersion(Long lastChangeVersion, Long lastId, LocalDateTime lastUpdatedAt) {
+
+}
@@ -0,0 +1,27 @@
+package com.masbytes.catalogprod.category.repository;
+
+import java.time.LocalDateTime;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * A category read from the change feed, with the change version of its last
+ * write.
+ *
+ * @param changeVersion  change version of the last write to the category
+ * @param nameNormalized normalized name of the category, the key of name
+ *                       lookups
+ * @param category       the category
+ */
+
+public record CategoryChange(long changeVersion, String nameNormalized, CategoryResponseDTO category) {
+
+    // Constructor expression of the change feed queries
+    public CategoryChange(Long changeVersion, String nameNormalized, Long id, String name, String description,
+            LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt, Status status) {
+        this(changeVersion, nameNormalized,
+                new CategoryResponseDTO(id, name, description, createdAt, updatedAt, deletedAt, status));
+    }
+
+}
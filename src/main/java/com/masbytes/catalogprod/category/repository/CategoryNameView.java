@@ -0,0 +1,12 @@
+package com.masbytes.catalogprod.category.repository;
+
+/**
+ * Lightweight projection of a category holding only its ID and name.
+ *
+ * @param id   ID of the category
+ * @param name normalized name of the category
+ */
+
+public record CategoryNameView(Long id, String name) {
+
+}
@@ -0,0 +1,45 @@
+package com.masbytes.catalogprod.category.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.model.Category;
+
+/**
+ * Read-only queries that select straight into {@link CategoryResponseDTO}
+ * through a JPQL constructor expression, for callers that build their
+ * predicate with a {@link Specification}.
+ *
+ * No entity is hydrated or registered in the persistence context, so there is
+ * no dirty-checking snapshot to keep.
+ */
+
+public interface CategoryProjectionRepository {
+
+    /**
+     * Runs an offset query, plus a count query when the page size requires it.
+     *
+     * @param spec     the predicate, may be null
+     * @param pageable the pagination information
+     * @return the requested page
+     */
+
+    Page<CategoryResponseDTO> findResponses(Specification<Category> spec, Pageable pageable);
+
+    /**
+     * Runs a query limited to the first rows, without any count.
+     *
+     * @param spec  the predicate, may be null
+     * @param sort  the ordering
+     * @param limit the maximum number of rows
+     * @return the matching categories
+     */
+
+    List<CategoryResponseDTO> findResponses(Specification<Category> spec, Sort sort, int limit);
+
+}
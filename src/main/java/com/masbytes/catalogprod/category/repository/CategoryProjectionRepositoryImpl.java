@@ -0,0 +1,115 @@
+package com.masbytes.catalogprod.category.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.criteria.JpaOrder;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.model.Category;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API implementation of {@link CategoryProjectionRepository}.
+ */
+
+public class CategoryProjectionRepositoryImpl implements CategoryProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public CategoryProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<CategoryResponseDTO> findResponses(Specification<Category> spec, Pageable pageable) {
+        TypedQuery<CategoryResponseDTO> query = entityManager.createQuery(select(spec, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        // The count only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<CategoryResponseDTO> findResponses(Specification<Category> spec, Sort sort, int limit) {
+        return entityManager.createQuery(select(spec, sort))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CriteriaQuery<CategoryResponseDTO> select(Specification<Category> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CategoryResponseDTO> query = cb.createQuery(CategoryResponseDTO.class);
+        Root<Category> root = query.from(Category.class);
+
+        query.select(cb.construct(CategoryResponseDTO.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt"),
+                root.get("status")));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    /**
+     * Translates the sort, applying its null handling through Hibernate:
+     * QueryUtils rejects anything but native null handling on criteria
+     * queries. Dialects without NULLS FIRST/LAST, such as SQL Server, get it
+     * emulated with a CASE expression.
+     */
+
+    private static List<Order> toOrders(Sort sort, Root<Category> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Order jpaOrder = QueryUtils.toOrders(Sort.by(order.with(Sort.NullHandling.NATIVE)), root, cb).get(0);
+            orders.add(switch (order.getNullHandling()) {
+                case NULLS_FIRST -> ((JpaOrder) jpaOrder).nullPrecedence(NullPrecedence.FIRST);
+                case NULLS_LAST -> ((JpaOrder) jpaOrder).nullPrecedence(NullPrecedence.LAST);
+                case NATIVE -> jpaOrder;
+            });
+        }
+        return orders;
+    }
+
+    private long count(Specification<Category> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Category> root = query.from(Category.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+}
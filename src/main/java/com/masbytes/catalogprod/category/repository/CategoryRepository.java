@@ -1,19 +1,308 @@
 package com.masbytes.catalogprod.category.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
 import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.enums.Status;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends JpaRepository<Category, Long>, JpaSpecificationExecutor<Category>,
+        CategoryProjectionRepository {
+
+    /**
+     * Constructor expression shared by the read-only projection queries.
+     */
+    String RESPONSE_PROJECTION = "SELECT new com.masbytes.catalogprod.category.dto.CategoryResponseDTO("
+            + "c.id, c.name, c.description, c.createdAt, c.updatedAt, c.deletedAt, c.status) FROM Category c ";
+
+    String CHANGE_PROJECTION = "SELECT new com.masbytes.catalogprod.category.repository.CategoryChange("
+            + "c.changeVersion, c.nameNormalized, c.id, c.name, c.description, c.createdAt, c.updatedAt, "
+            + "c.deletedAt, c.status) FROM Category c ";
+
+    boolean existsByNameNormalized(String normalizedName);
+
+    Optional<Category> findByNameNormalized(String normalizedName);
+
+    /**
+     * Returns the categories whose normalized name contains the given text,
+     * ordered by ID. LIKE wildcards in the text are matched literally.
+     *
+     * @param partialName the text to search for, already normalized
+     * @return the matching categories
+     */
+
+    @Query(RESPONSE_PROJECTION
+            + "WHERE c.nameNormalized LIKE CONCAT('%', :#{escape(#partialName)}, '%') ESCAPE :#{escapeCharacter()} "
+            + "ORDER BY c.id")
+    List<CategoryResponseDTO> findResponsesByNameContaining(@Param("partialName") String partialName);
+
+    /**
+     * Returns the categories among the given IDs whose normalized name still
+     * contains the given text, ordered by ID. LIKE wildcards in the text are
+     * matched literally.
+     *
+     * @param ids         the candidate IDs
+     * @param partialName the text to search for, already normalized
+     * @return the matching categories
+     */
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.id IN :ids "
+            + "AND c.nameNormalized LIKE CONCAT('%', :#{escape(#partialName)}, '%') ESCAPE :#{escapeCharacter()} "
+            + "ORDER BY c.id")
+    List<CategoryResponseDTO> findResponsesByIdInAndNameContaining(@Param("ids") Collection<Long> ids,
+            @Param("partialName") String partialName);
+
+    /**
+     * Returns a category projected straight into a response DTO.
+     *
+     * @param id the category ID
+     * @return the category, or an empty Optional if it does not exist
+     */
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.id = :id")
+    Optional<CategoryResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Moves a category to the target status in a single statement, provided
+     * its current status is one of the given ones. Stamps the update and
+     * deletion dates and the change version and increments the version, as an
+     * entity update would, without loading the row. Pending changes are
+     * flushed first and the persistence context is cleared afterwards, so
+     * categories read back in the same transaction reflect the update.
+     *
+     * @param id            the category ID
+     * @param from          the statuses the transition is allowed from
+     * @param target        the new status
+     * @param now           the update date
+     * @param deletedAt     the deletion date, or null unless deleting
+     * @param changeVersion the change version of the current transaction
+     * @return the number of rows updated: 1, or 0 if the category does not
+     *         exist or is not in one of the given statuses
+     */
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Category c SET c.status = :target, c.updatedAt = :now, c.deletedAt = :deletedAt, "
+            + "c.changeVersion = :changeVersion, c.version = c.version + 1 WHERE c.id = :id AND c.status IN :from")
+    int updateStatus(@Param("id") Long id, @Param("from") Collection<Status> from, @Param("target") Status target,
+            @Param("now") LocalDateTime now, @Param("deletedAt") LocalDateTime deletedAt,
+            @Param("changeVersion") long changeVersion);
+
+    /**
+     * Returns which of the given IDs belong to categories in one of the given
+     * statuses.
+     *
+     * @param ids      the category IDs
+     * @param statuses the statuses to match
+     * @return the matching IDs
+     */
+
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids AND c.status IN :statuses")
+    List<Long> findIdsByIdInAndStatusIn(@Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<Status> statuses);
+
+    /**
+     * Bulk variant of {@link #updateStatus}: one statement for every given ID
+     * whose current status is one of the given ones. Callers keep the ID list
+     * below the parameter limit of the database.
+     *
+     * @param ids           the category IDs
+     * @param from          the statuses the transition is allowed from
+     * @param target        the new status
+     * @param now           the update date
+     * @param deletedAt     the deletion date, or null unless deleting
+     * @param changeVersion the change version of the current transaction
+     * @return the number of rows updated
+     */
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Category c SET c.status = :target, c.updatedAt = :now, c.deletedAt = :deletedAt, "
+            + "c.changeVersion = :changeVersion, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids AND c.status IN :from")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("from") Collection<Status> from,
+            @Param("target") Status target, @Param("now") LocalDateTime now,
+            @Param("deletedAt") LocalDateTime deletedAt, @Param("changeVersion") long changeVersion);
+
+    /**
+     * Returns the categories with the given IDs, ordered by ID.
+     *
+     * @param ids the IDs to load
+     * @return the categories found; missing IDs are skipped
+     */
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.id IN :ids ORDER BY c.id")
+    List<CategoryResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the categories with the given normalized names.
+     *
+     * @param normalizedNames the names to load
+     * @return the categories found; missing names are skipped
+     */
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.nameNormalized IN :names")
+    List<CategoryResponseDTO> findResponsesByNameNormalizedIn(@Param("names") Collection<String> normalizedNames);
+
+    /**
+     * Returns the categories with the given status, ordered by ID.
+     *
+     * @param status the status to match
+     * @return the matching categories
+     */
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.status = :status ORDER BY c.id")
+    List<CategoryResponseDTO> findResponsesByStatus(@Param("status") Status status);
+
+    /**
+     * Returns the categories with the given status and the change version
+     * each one was last written with, ordered by ID.
+     *
+     * @param status the status to match
+     * @return the matching categories
+     */
+
+    @Query(CHANGE_PROJECTION + "WHERE c.status = :status ORDER BY c.id")
+    List<CategoryChange> findChangesByStatus(@Param("status") Status status);
+
+    /**
+     * Returns the categories with the given IDs and the change version each
+     * one was last written with, ordered by ID.
+     *
+     * @param ids the IDs to load
+     * @return the categories found; missing IDs are skipped
+     */
+
+    @Query(CHANGE_PROJECTION + "WHERE c.id IN :ids ORDER BY c.id")
+    List<CategoryChange> findChangesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the categories written after the given (change version, ID)
+     * pair, ordered by change version and then by ID. The range starts with a
+     * seek on the (change_version, id) index, so a read with nothing new costs
+     * one index probe. Soft deletions stamp the change version, so deleted
+     * categories are included.
+     *
+     * @param afterVersion the change version of the watermark
+     * @param afterId      the ID of the watermark, breaking ties on the change
+     *                     version
+     * @param limit        the maximum number of rows
+     * @return the changed categories
+     */
+
+    @Query(CHANGE_PROJECTION
+            + "WHERE c.changeVersion >= :afterVersion AND (c.changeVersion > :afterVersion OR c.id > :afterId) "
+            + "ORDER BY c.changeVersion, c.id")
+    List<CategoryChange> findChangesAfter(@Param("afterVersion") long afterVersion, @Param("afterId") Long afterId,
+            Limit limit);
+
+    /**
+     * Returns the latest change version of the catalog, answered from the
+     * (change_version, id) index. Every change up to it has committed.
+     *
+     * @return the latest change version, or 0 if the catalog is empty
+     */
+
+    @Query("SELECT COALESCE(MAX(c.changeVersion), 0) FROM Category c")
+    long findLastChangeVersion();
+
+    /**
+     * Returns the lowest change version among the categories updated, or
+     * created and never updated, since the given date. Scans the table, as it
+     * only serves the first read of clients that know a date.
+     *
+     * @param since the date of the last synchronization
+     * @return the change version, or an empty Optional if no category changed
+     *         since then
+     */
+
+    @Query("SELECT MIN(c.changeVersion) FROM Category c WHERE COALESCE(c.updatedAt, c.createdAt) >= :since")
+    Optional<Long> findFirstChangeVersionSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Returns the ID and last update date of a category, without loading it.
+     *
+     * @param id the category ID
+     * @return the version, or an empty Optional if the category does not exist
+     */
+
+    @Query("SELECT new com.masbytes.catalogprod.category.repository.CategoryVersion(c.id, c.updatedAt) "
+            + "FROM Category c WHERE c.id = :id")
+    Optional<CategoryVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Returns the latest change version, the highest ID and the latest update
+     * date of the catalog, each answered from an index.
+     *
+     * @return the catalog version; all values are null if it is empty
+     */
+
+    @Query("SELECT new com.masbytes.catalogprod.category.repository.CategoryCatalogVersion("
+            + "MAX(c.changeVersion), MAX(c.id), MAX(c.updatedAt)) FROM Category c")
+    CategoryCatalogVersion findCatalogVersion();
+
+    /**
+     * Returns which of the given normalized names already exist, in a single
+     * query.
+     *
+     * @param normalizedNames the names to check
+     * @return the subset of names that are already taken
+     */
+
+    @Query("SELECT c.nameNormalized FROM Category c WHERE c.nameNormalized IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> normalizedNames);
+
+    /**
+     * Streams the ID and normalized name of every category, ordered by ID.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a stream of {@link CategoryNameView}
+     */
+
+    @Query("SELECT new com.masbytes.catalogprod.category.repository.CategoryNameView(c.id, c.nameNormalized) "
+            + "FROM Category c ORDER BY c.id")
+    Stream<CategoryNameView> streamAllNames();
+
+    /**
+     * Streams the normalized name of every category, 1000 rows per round
+     * trip. Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a stream of normalized names
+     */
 
-    boolean existsByName(String normalizedName);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.nameNormalized FROM Category c")
+    Stream<String> streamAllNormalizedNames();
 
-    Optional <Category> findByName(String normalizedName);
+    /**
+     * Streams every category ordered by ID through a forward-only cursor that
+     * fetches 500 rows per round trip. The entities are loaded read-only, so
+     * no dirty-checking snapshot is kept.
+     * Must be consumed inside a transaction and closed afterwards; callers
+     * should detach each entity once they are done with it.
+     *
+     * @return a stream of categories
+     */
 
-    List<Category> findByNameContainingIgnoreCase(String normalizedName);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Category c ORDER BY c.id")
+    Stream<Category> streamAll();
 }
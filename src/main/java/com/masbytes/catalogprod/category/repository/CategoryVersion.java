@@ -0,0 +1,15 @@
+package com.masbytes.catalogprod.category.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of a single category: its ID and last update date, enough to
+ * build an ETag without loading the whole row.
+ *
+ * @param id        ID of the category
+ * @param updatedAt last update date, or null if the row was never stamped
+ */
+
+public record CategoryVersion(Long id, LocalDateTime updatedAt) {
+
+}
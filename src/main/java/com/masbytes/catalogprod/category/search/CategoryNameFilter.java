@@ -0,0 +1,331 @@
+package com.masbytes.catalogprod.category.search;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.model.CategoryNames;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * In-memory Bloom filter of normalized category names, guarding the name
+ * existence query of the create path.
+ *
+ * A "no" from {@link #mightContain(String)} is definite for every name the
+ * filter has seen, so most new names skip the database. Names written
+ * elsewhere (another instance, a script) can still be missing until the next
+ * rebuild, which is why the unique index on name_normalized stays the final
+ * check. Bloom filters cannot forget, so renamed-away names linger as false
+ * positives until then too.
+ *
+ * The filter is sized for twice the catalog at every rebuild, which runs once
+ * the application is ready and then every
+ * {@code catalog.category.name-filter.rebuild-interval}, reading the primary
+ * so names a lagging replica has not seen yet are not left out. Until the
+ * first build every name is reported as possibly present.
+ */
+
+@Component
+public class CategoryNameFilter implements MeterBinder {
+
+    private static final int MINIMUM_EXPECTED_NAMES = 1024;
+
+    private static final double LN2 = Math.log(2);
+
+    private final CategoryRepository categoryRepository;
+
+    private final double falsePositiveRate;
+
+    private final Duration rebuildInterval;
+
+    // Names added while a rebuild is in progress, replayed after the swap
+    private final Queue<String> pendingNames = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder absent = new LongAdder();
+
+    private final LongAdder maybePresent = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    private final LongAdder rebuilds = new LongAdder();
+
+    private volatile boolean rebuilding;
+
+    private volatile BitSet bits;
+
+    public CategoryNameFilter(CategoryRepository categoryRepository,
+            @Value("${catalog.category.name-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${catalog.category.name-filter.rebuild-interval:PT1H}") Duration rebuildInterval) {
+        this.categoryRepository = categoryRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * Rebuilds the filter from the category table, sized for the current
+     * catalog.
+     */
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${catalog.category.name-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${catalog.category.name-filter.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // Flag the rebuild before querying so no committed name is missed
+        rebuilding = true;
+        try {
+            ReplicaRoutingContext.runOnPrimary(() -> {
+                try (Stream<String> names = categoryRepository.streamAllNormalizedNames()) {
+                    load(names, categoryRepository.count());
+                }
+            });
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * Replaces the filter content with the given names.
+     *
+     * @param names         every normalized name of the catalog
+     * @param expectedNames the number of names, used to size the filter
+     */
+
+    public void load(Stream<String> names, long expectedNames) {
+        rebuilding = true;
+        try {
+            BitSet rebuilt = BitSet.sized(Math.max(2 * expectedNames, MINIMUM_EXPECTED_NAMES), falsePositiveRate);
+            names.forEach(rebuilt::put);
+
+            synchronized (this) {
+                bits = rebuilt;
+                rebuilding = false;
+                String name;
+                while ((name = pendingNames.poll()) != null) {
+                    rebuilt.put(name);
+                }
+            }
+            rebuilds.increment();
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * Tells whether a normalized name may already exist.
+     *
+     * @param normalizedName the name to check
+     * @return false only if the name is definitely not in the catalog known to
+     *         the filter; true if it may be, or if the filter is not built yet
+     */
+
+    public boolean mightContain(String normalizedName) {
+        BitSet current = bits;
+        if (current == null) {
+            return true;
+        }
+        boolean result = current.mightContain(normalizedName);
+        (result ? maybePresent : absent).increment();
+        return result;
+    }
+
+    /**
+     * Records that a name reported as possibly present did not exist. Ignored
+     * until the filter is built, when every name is reported as present.
+     */
+
+    public void recordFalsePositive() {
+        if (bits != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Adds names written outside the change events, such as bulk imports.
+     *
+     * @param normalizedNames the names to add
+     */
+
+    public void putAll(Collection<String> normalizedNames) {
+        normalizedNames.forEach(this::put);
+    }
+
+    /**
+     * Adds the new name of a category once its transaction commits.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.currentName() != null) {
+            put(CategoryNames.normalize(event.currentName()));
+        }
+    }
+
+    /**
+     * Returns the false-positive rate expected from the current fill of the
+     * filter: (bits set / size) ^ hash functions.
+     *
+     * @return the estimated rate, or 1 before the first build
+     */
+
+    public double estimatedFalsePositiveRate() {
+        BitSet current = bits;
+        return current == null ? 1.0 : current.estimatedFalsePositiveRate();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.category.name_filter.false_positive_rate", this, filter -> filter.falsePositiveRate)
+                .description("False-positive rate of the category name filter")
+                .tag("kind", "target")
+                .register(registry);
+        Gauge.builder("catalog.category.name_filter.false_positive_rate", this,
+                CategoryNameFilter::estimatedFalsePositiveRate)
+                .description("False-positive rate of the category name filter")
+                .tag("kind", "estimated")
+                .register(registry);
+        Gauge.builder("catalog.category.name_filter.size", this,
+                filter -> filter.bits == null ? 0 : filter.bits.length())
+                .baseUnit("bits")
+                .register(registry);
+        Gauge.builder("catalog.category.name_filter.rebuild_interval", rebuildInterval, Duration::toSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.name_filter.checks", absent, LongAdder::sum)
+                .tag("result", "absent")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.name_filter.checks", maybePresent, LongAdder::sum)
+                .tag("result", "maybe-present")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.name_filter.false_positives", falsePositives, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("catalog.category.name_filter.rebuilds", rebuilds, LongAdder::sum)
+                .register(registry);
+    }
+
+    private void put(String normalizedName) {
+        if (normalizedName == null) {
+            return;
+        }
+        if (rebuilding) {
+            pendingNames.add(normalizedName);
+        }
+        BitSet current = bits;
+        if (current != null) {
+            current.put(normalizedName);
+        }
+    }
+
+    /**
+     * Fixed-size bit array probed with double hashing. Bits are only ever set,
+     * with a CAS per word, so concurrent puts and reads need no lock.
+     */
+
+    private static final class BitSet {
+
+        private final AtomicLongArray words;
+
+        private final long size;
+
+        private final int hashFunctions;
+
+        private BitSet(long size, int hashFunctions) {
+            this.words = new AtomicLongArray((int) ((size + 63) / 64));
+            this.size = size;
+            this.hashFunctions = hashFunctions;
+        }
+
+        /**
+         * Optimal size m = -n ln p / (ln 2)^2 and hash count k = m / n ln 2.
+         */
+        static BitSet sized(long expectedNames, double falsePositiveRate) {
+            long size = (long) Math.ceil(-expectedNames * Math.log(falsePositiveRate) / (LN2 * LN2));
+            int hashFunctions = Math.max(1, (int) Math.round((double) size / expectedNames * LN2));
+            return new BitSet(Math.max(size, 64), hashFunctions);
+        }
+
+        void put(String name) {
+            long hash1 = hash(name);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, size);
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndAccumulate(word, mask, (current, added) -> current | added);
+                }
+            }
+        }
+
+        boolean mightContain(String name) {
+            long hash1 = hash(name);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long length() {
+            return size;
+        }
+
+        double estimatedFalsePositiveRate() {
+            long set = 0;
+            for (int i = 0; i < words.length(); i++) {
+                set += Long.bitCount(words.get(i));
+            }
+            return Math.pow((double) set / size, hashFunctions);
+        }
+
+        /**
+         * FNV-1a over the UTF-16 code units, finished with a 64-bit mixer.
+         */
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        /**
+         * The finalizer of MurmurHash3.
+         */
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+
+    }
+
+}
@@ -0,0 +1,379 @@
+package com.masbytes.catalogprod.category.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.pagination.CategoryChangeWatermark;
+import com.masbytes.catalogprod.category.repository.CategoryChange;
+import com.masbytes.catalogprod.category.repository.CategoryNameView;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+
+/**
+ * In-memory trigram inverted index over normalized category names.
+ *
+ * Answers "name contains X" queries without scanning the category table: the
+ * posting lists of the query trigrams are intersected and the few remaining
+ * candidates are verified with a plain substring check, so results match
+ * {@link CategoryRepository#findResponsesByNameContaining(String)}.
+ *
+ * The index is built from the database once the application is ready and is
+ * kept up to date from {@link CategoryChangedEvent}s. Changes committed by
+ * other instances are picked up every
+ * {@code catalog.category.name-index.refresh-interval} by reading the rows
+ * whose change version is above the last one applied; the whole index is
+ * rebuilt every {@code catalog.category.name-index.rebuild-interval} for
+ * scripts that write without a change version. Both read the primary, never
+ * a lagging replica. Until it is built,
+ * {@link #search(String)} returns an empty Optional and callers fall back to
+ * the repository.
+ *
+ * Rebuilds and refreshes are serialized with a ReentrantLock rather than a
+ * monitor, so with virtual threads enabled the scheduled jobs do not pin
+ * their carrier thread while they read the database. The index itself is
+ * only write-locked to swap in or apply what was read.
+ */
+
+@Component
+public class CategoryNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final CategoryRepository categoryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Changes received while a rebuild is in progress, replayed after the swap
+    private final Queue<CategoryChangedEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean rebuilding;
+
+    private IndexState state;
+
+    // Serializes rebuilds and refreshes, which both move the position
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // Last change read from the database; guarded by refreshLock
+    private CategoryChangeWatermark position;
+
+    public CategoryNameIndex(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * Rebuilds the whole index from the category table.
+     */
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${catalog.category.name-index.rebuild-interval:PT1H}",
+            fixedDelayString = "${catalog.category.name-index.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            // Flag the rebuild before querying so no committed change is missed
+            rebuilding = true;
+            ReplicaRoutingContext.runOnPrimary(() -> {
+                // Changes committed while the names are read are applied again by the next refresh
+                long changeVersion = categoryRepository.findLastChangeVersion();
+                try (Stream<CategoryNameView> names = categoryRepository.streamAllNames()) {
+                    load(names);
+                }
+                position = CategoryChangeWatermark.upTo(changeVersion);
+            });
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the changes committed since the last rebuild or refresh,
+     * including those made on other instances.
+     */
+
+    @Scheduled(initialDelayString = "${catalog.category.name-index.refresh-interval:PT5S}",
+            fixedDelayString = "${catalog.category.name-index.refresh-interval:PT5S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        // A rebuild in progress reads every name anyway
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (position != null) {
+                ReplicaRoutingContext.runOnPrimary(this::applyChanges);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void applyChanges() {
+        List<CategoryChange> changes;
+        do {
+            changes = categoryRepository.findChangesAfter(position.changeVersion(), position.id(),
+                    Limit.of(REFRESH_BATCH_SIZE));
+            if (changes.isEmpty()) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                changes.forEach(change -> state.put(change.category().getId(), change.nameNormalized()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            position = CategoryChangeWatermark.after(changes.get(changes.size() - 1));
+        } while (changes.size() == REFRESH_BATCH_SIZE);
+    }
+
+    /**
+     * Replaces the index content with the given entries.
+     *
+     * @param entries the ID and normalized name of every category
+     */
+
+    public void load(Stream<CategoryNameView> entries) {
+        rebuilding = true;
+        try {
+            IndexState rebuilt = new IndexState();
+            entries.forEach(entry -> rebuilt.put(entry.id(), entry.name()));
+
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+                rebuilding = false;
+                CategoryChangedEvent event;
+                while ((event = pendingChanges.poll()) != null) {
+                    state.put(event.id(), event.currentName());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * Finds the IDs of all categories whose name contains the given text,
+     * ignoring case.
+     *
+     * @param text the text to search for
+     * @return the matching IDs in ascending order, or an empty Optional if the
+     *         index has not been built yet
+     */
+
+    public Optional<List<Long>> search(String text) {
+        String query = text.toUpperCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                return Optional.empty();
+            }
+            return Optional.of(state.search(query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a committed change to the index.
+     *
+     * @param event the change event published by the category service
+     */
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingChanges.add(event);
+            }
+            if (state != null) {
+                state.put(event.id(), event.currentName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed categories.
+     *
+     * @return the indexed category count, or 0 before the first build
+     */
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state == null ? 0 : state.names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Encodes the trigram starting at the given offset into a single long.
+     */
+
+    private static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32)
+                | ((long) value.charAt(offset + 1) << 16)
+                | value.charAt(offset + 2);
+    }
+
+    /**
+     * Names and posting lists. Guarded by the enclosing lock.
+     */
+
+    private static final class IndexState {
+
+        private final Map<Long, String> names = new HashMap<>();
+
+        private final Map<Long, PostingList> postings = new HashMap<>();
+
+        void put(Long id, String rawName) {
+            if (id == null || rawName == null) {
+                return;
+            }
+
+            String name = rawName.toUpperCase(Locale.ROOT);
+            String previous = names.put(id, name);
+            if (name.equals(previous)) {
+                return;
+            }
+
+            if (previous != null) {
+                for (int i = 0; i + GRAM_LENGTH <= previous.length(); i++) {
+                    PostingList list = postings.get(gram(previous, i));
+                    if (list != null && list.remove(id) && list.size == 0) {
+                        postings.remove(gram(previous, i));
+                    }
+                }
+            }
+
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                postings.computeIfAbsent(gram(name, i), key -> new PostingList()).add(id);
+            }
+        }
+
+        List<Long> search(String query) {
+            // Queries shorter than a trigram cannot use the postings;
+            // scanning the in-memory names is still far cheaper than the table
+            if (query.length() < GRAM_LENGTH) {
+                List<Long> matches = new ArrayList<>();
+                names.forEach((id, name) -> {
+                    if (name.contains(query)) {
+                        matches.add(id);
+                    }
+                });
+                Collections.sort(matches);
+                return matches;
+            }
+
+            // Start from the rarest trigram to keep the candidate set small
+            List<PostingList> lists = new ArrayList<>();
+            for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+                PostingList list = postings.get(gram(query, i));
+                if (list == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            List<Long> matches = new ArrayList<>();
+            PostingList smallest = lists.get(0);
+            candidates: for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                for (int j = 1; j < lists.size(); j++) {
+                    if (!lists.get(j).contains(id)) {
+                        continue candidates;
+                    }
+                }
+                // Trigram hits only prove the grams exist, not that they are adjacent
+                if (names.get(id).contains(query)) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        }
+
+    }
+
+    /**
+     * Sorted, growable array of category IDs.
+     */
+
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+
+        private int size;
+
+        void add(long id) {
+            // Bulk loads arrive in ID order, so appending is the common case
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.masbytes.catalogprod.category.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO;
+import com.masbytes.catalogprod.category.dto.CategoryChangesDTO;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.dto.UpdateCategoryDTO;
+import com.masbytes.catalogprod.category.pagination.CategorySortKey;
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * Non-blocking counterpart of {@link CategoryService}, so callers can issue
+ * several category operations concurrently and compose their results.
+ *
+ * Every method runs the {@link CategoryService} method of the same name on a
+ * bounded executor and returns at once. The future completes with its result,
+ * or exceptionally with:
+ * <ul>
+ * <li>the exception it threw (CategoryNotFoundException and the like);</li>
+ * <li>a {@link TimeoutException} when it has not finished within the timeout,
+ * counted from the call, queueing included;</li>
+ * <li>a {@link RejectedExecutionException} when too many calls are already
+ * pending.</li>
+ * </ul>
+ * A call that times out while still queued is never run; one that is already
+ * running finishes, and its result is discarded.
+ */
+
+public interface AsyncCategoryService {
+
+    /**
+     * Returns a view of this service whose calls time out after the given
+     * duration instead of the configured default.
+     *
+     * @param timeout the timeout of each call made through the view
+     * @return the view, sharing this service's executor and limits
+     */
+
+    AsyncCategoryService withTimeout(Duration timeout);
+
+    /**
+     * @see CategoryService#createCategory(CategoryRequestDTO)
+     */
+
+    CompletableFuture<CategoryResponseDTO> createCategory(CategoryRequestDTO dto);
+
+    /**
+     * @see CategoryService#createCategories(List)
+     */
+
+    CompletableFuture<List<CategoryBulkResultDTO>> createCategories(List<CategoryRequestDTO> dtos);
+
+    /**
+     * @see CategoryService#getCategoryById(Long)
+     */
+
+    CompletableFuture<CategoryResponseDTO> getCategoryById(Long id);
+
+    /**
+     * @see CategoryService#getCategoryVersion(Long)
+     */
+
+    CompletableFuture<CategoryVersion> getCategoryVersion(Long id);
+
+    /**
+     * @see CategoryService#getCatalogVersion()
+     */
+
+    CompletableFuture<CategoryCatalogVersion> getCatalogVersion();
+
+    /**
+     * @see CategoryService#getCategoryByName(String)
+     */
+
+    CompletableFuture<CategoryResponseDTO> getCategoryByName(String name);
+
+    /**
+     * @see CategoryService#searchByPartialName(String)
+     */
+
+    CompletableFuture<List<CategoryResponseDTO>> searchByPartialName(String name);
+
+    /**
+     * @see CategoryService#updateCategory(Long, UpdateCategoryDTO)
+     */
+
+    CompletableFuture<CategoryResponseDTO> updateCategory(Long id, UpdateCategoryDTO dto);
+
+    /**
+     * @see CategoryService#disableCategory(Long)
+     */
+
+    CompletableFuture<CategoryResponseDTO> disableCategory(Long id);
+
+    /**
+     * @see CategoryService#enableCategory(Long)
+     */
+
+    CompletableFuture<CategoryResponseDTO> enableCategory(Long id);
+
+    /**
+     * @see CategoryService#deleteCategory(Long)
+     */
+
+    CompletableFuture<CategoryResponseDTO> deleteCategory(Long id);
+
+    /**
+     * @see CategoryService#disableCategories(List)
+     */
+
+    CompletableFuture<List<CategoryBulkResultDTO>> disableCategories(List<Long> ids);
+
+    /**
+     * @see CategoryService#enableCategories(List)
+     */
+
+    CompletableFuture<List<CategoryBulkResultDTO>> enableCategories(List<Long> ids);
+
+    /**
+     * @see CategoryService#deleteCategories(List)
+     */
+
+    CompletableFuture<List<CategoryBulkResultDTO>> deleteCategories(List<Long> ids);
+
+    /**
+     * @see CategoryService#getCategoryByStatus(Status)
+     */
+
+    CompletableFuture<List<CategoryResponseDTO>> getCategoryByStatus(Status status);
+
+    /**
+     * @see CategoryService#getAllCategories(Pageable, CategoryFilterDTO)
+     */
+
+    CompletableFuture<Page<CategoryResponseDTO>> getAllCategories(Pageable pageable, CategoryFilterDTO filter);
+
+    /**
+     * @see CategoryService#getAllCategories(String, int, CategorySortKey,
+     *      Sort.Direction, CategoryFilterDTO)
+     */
+
+    CompletableFuture<CategoryCursorPageDTO> getAllCategories(String cursor, int size, CategorySortKey sortKey,
+            Sort.Direction direction, CategoryFilterDTO filter);
+
+    /**
+     * @see CategoryService#getCategoryChanges(String, LocalDateTime, int)
+     */
+
+    CompletableFuture<CategoryChangesDTO> getCategoryChanges(String watermark, LocalDateTime since, int size);
+
+}
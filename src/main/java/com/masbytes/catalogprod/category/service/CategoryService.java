@@ -1,15 +1,26 @@
 package com.masbytes.catalogprod.category.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO;
+import com.masbytes.catalogprod.category.dto.CategoryChangesDTO;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
 import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
 import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
 import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
 import com.masbytes.catalogprod.category.dto.UpdateCategoryDTO;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsActiveException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsInactiveException;
 import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.category.pagination.CategorySortKey;
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
 import com.masbytes.catalogprod.enums.Status;
 
 public interface CategoryService {
@@ -23,6 +34,18 @@ public interface CategoryService {
 
     CategoryResponseDTO createCategory(CategoryRequestDTO dto);
 
+    /**
+     * Creates several categories at once.
+     * 
+     * Entries whose name already exists, or repeats an earlier entry of the
+     * same request, are rejected as duplicates; all the others are created.
+     *
+     * @param dtos the categories to create
+     * @return one {@link CategoryBulkResultDTO} per entry, in request order
+     */
+
+    List<CategoryBulkResultDTO> createCategories(List<CategoryRequestDTO> dtos);
+
     /**
      * Retrieves a category by its ID.
      *
@@ -34,6 +57,26 @@ public interface CategoryService {
 
     CategoryResponseDTO getCategoryById(Long id);
 
+    /**
+     * Retrieves the version of a category (ID and last update date) without
+     * loading it, to answer conditional requests.
+     *
+     * @param id the unique identifier of the category
+     * @return the category version
+     * @throws CategoryNotFoundException if no category with the given ID exists
+     */
+
+    CategoryVersion getCategoryVersion(Long id);
+
+    /**
+     * Retrieves the version of the whole catalog, which changes whenever a
+     * category is created or updated.
+     *
+     * @return the catalog version
+     */
+
+    CategoryCatalogVersion getCatalogVersion();
+
     /**
      * Retrieves a category by its name.
      * 
@@ -72,6 +115,10 @@ public interface CategoryService {
      * @param id the ID of the category to disable
      * @return the updated category with status set to {@link Status#INACTIVE},
      *         wrapped as a {@link CategoryResponseDTO}
+     * @throws CategoryAlreadyIsInactiveException if the category is already
+     *         inactive
+     * @throws CategoryNotFoundException if no category with the given ID exists
+     *         or if the category is logically deleted
      */
 
     CategoryResponseDTO disableCategory(Long id);
@@ -83,6 +130,9 @@ public interface CategoryService {
      * @param id the ID of the category to enable
      * @return the updated category with status set to {@link Status#ACTIVE},
      *         wrapped as a {@link CategoryResponseDTO}
+     * @throws CategoryAlreadyIsActiveException if the category is already active
+     * @throws CategoryNotFoundException if no category with the given ID exists
+     *         or if the category is logically deleted
      */
 
     CategoryResponseDTO enableCategory(Long id);
@@ -96,10 +146,51 @@ public interface CategoryService {
      *
      * @param id the ID of the category to delete
      * @return the logically deleted category as a {@link CategoryResponseDTO}
+     * @throws CategoryNotFoundException if no category with the given ID exists
+     *         or if the category is already logically deleted
      */
 
     CategoryResponseDTO deleteCategory(Long id);
 
+    /**
+     * Disables several categories at once.
+     *
+     * @param ids the IDs of the categories to disable
+     * @return one {@link CategoryBulkResultDTO} per ID, in request order:
+     *         UPDATED, ALREADY_INACTIVE, NOT_FOUND (missing or deleted) or
+     *         DUPLICATE for a repeated ID
+     * @throws CategoryInvalidDataException if the list is null or empty, or
+     *         contains a null ID
+     */
+
+    List<CategoryBulkResultDTO> disableCategories(List<Long> ids);
+
+    /**
+     * Enables several categories at once.
+     *
+     * @param ids the IDs of the categories to enable
+     * @return one {@link CategoryBulkResultDTO} per ID, in request order:
+     *         UPDATED, ALREADY_ACTIVE, NOT_FOUND (missing or deleted) or
+     *         DUPLICATE for a repeated ID
+     * @throws CategoryInvalidDataException if the list is null or empty, or
+     *         contains a null ID
+     */
+
+    List<CategoryBulkResultDTO> enableCategories(List<Long> ids);
+
+    /**
+     * Soft-deletes several categories at once.
+     *
+     * @param ids the IDs of the categories to delete
+     * @return one {@link CategoryBulkResultDTO} per ID, in request order:
+     *         UPDATED, NOT_FOUND (missing or already deleted) or DUPLICATE for
+     *         a repeated ID
+     * @throws CategoryInvalidDataException if the list is null or empty, or
+     *         contains a null ID
+     */
+
+    List<CategoryBulkResultDTO> deleteCategories(List<Long> ids);
+
     /**
      * Retrieves all categories that match the given {@link Status}.
      * 
@@ -122,4 +213,47 @@ public interface CategoryService {
 
     Page<CategoryResponseDTO> getAllCategories(Pageable pageable, CategoryFilterDTO filter);
 
+    /**
+     * Retrieves categories with keyset (cursor) pagination and optional
+     * filtering.
+     * 
+     * Each page seeks directly past the (sort value, ID) pair of the previous
+     * one, so deep pages cost the same as the first page and no total count is
+     * computed. Prefer it over offset paging for large catalogs.
+     *
+     * @param cursor    the continuation token of the previous page, or null for
+     *                  the first page; when present, its sort key and direction
+     *                  take precedence over the given ones
+     * @param size      the maximum number of categories to return
+     * @param sortKey   the column to sort by (defaults to the ID)
+     * @param direction the sort direction (defaults to ascending)
+     * @param filter    the filter criteria to apply (optional)
+     * @return a {@link CategoryCursorPageDTO} with the page content and the
+     *         token of the next page
+     */
+
+    CategoryCursorPageDTO getAllCategories(String cursor, int size, CategorySortKey sortKey, Sort.Direction direction,
+            CategoryFilterDTO filter);
+
+    /**
+     * Retrieves the categories changed since a watermark, for clients that
+     * keep a copy of the catalog.
+     * 
+     * Changes are ordered by change version, then by ID, and include
+     * soft-deleted categories as tombstones. Change versions grow in commit
+     * order, so advancing the watermark never skips a change that commits
+     * later.
+     *
+     * @param watermark the watermark returned by the previous read, or null
+     * @param since     when there is no watermark, the date of the last
+     *                  synchronization; null reads the whole catalog
+     * @param size      the maximum number of changes to return
+     * @return a {@link CategoryChangesDTO} with the changes and the watermark
+     *         of the next read
+     * @throws CategoryInvalidDataException if the watermark is malformed or
+     *                                      the size is out of range
+     */
+
+    CategoryChangesDTO getCategoryChanges(String watermark, LocalDateTime since, int size);
+
 }
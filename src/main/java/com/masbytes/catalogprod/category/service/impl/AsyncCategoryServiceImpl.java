@@ -0,0 +1,307 @@
+package com.masbytes.catalogprod.category.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO;
+import com.masbytes.catalogprod.category.dto.CategoryChangesDTO;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.dto.UpdateCategoryDTO;
+import com.masbytes.catalogprod.category.pagination.CategorySortKey;
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+import com.masbytes.catalogprod.category.service.AsyncCategoryService;
+import com.masbytes.catalogprod.category.service.CategoryService;
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+import com.masbytes.catalogprod.enums.Status;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * AsyncCategoryServiceImpl
+ *
+ * Runs the methods of the CategoryService bean on a bounded executor, so
+ * transactions, caching and the service metrics apply as for blocking calls.
+ *
+ * At most {@code catalog.category.async.max-concurrency} calls run at once
+ * (by default the Hikari pool size, since each one holds a connection) and
+ * at most {@code catalog.category.async.queue-capacity} more wait for a turn;
+ * further calls are rejected. With spring.threads.virtual.enabled=true each
+ * call runs on its own virtual thread, otherwise on a fixed pool of platform
+ * threads. Calls time out after {@code catalog.category.async.timeout} unless
+ * made through {@link #withTimeout(Duration)}.
+ *
+ * A caller that must read from the primary (see ReplicaRoutingContext) keeps
+ * doing so in the calls it makes.
+ */
+
+@Service
+public class AsyncCategoryServiceImpl implements AsyncCategoryService, MeterBinder, DisposableBean {
+
+    private final CategoryService categoryService;
+
+    private final Dispatcher dispatcher;
+
+    private final Duration timeout;
+
+    @Autowired
+    public AsyncCategoryServiceImpl(CategoryService categoryService,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${catalog.category.async.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${catalog.category.async.queue-capacity:1000}") int queueCapacity,
+            @Value("${catalog.category.async.timeout:PT5S}") Duration timeout) {
+        this(categoryService, new Dispatcher(virtualThreads, maxConcurrency, queueCapacity), timeout);
+    }
+
+    private AsyncCategoryServiceImpl(CategoryService categoryService, Dispatcher dispatcher, Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.categoryService = categoryService;
+        this.dispatcher = dispatcher;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public AsyncCategoryService withTimeout(Duration timeout) {
+        return new AsyncCategoryServiceImpl(categoryService, dispatcher, timeout);
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> createCategory(CategoryRequestDTO dto) {
+        return submit(() -> categoryService.createCategory(dto));
+    }
+
+    @Override
+    public CompletableFuture<List<CategoryBulkResultDTO>> createCategories(List<CategoryRequestDTO> dtos) {
+        return submit(() -> categoryService.createCategories(dtos));
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> getCategoryById(Long id) {
+        return submit(() -> categoryService.getCategoryById(id));
+    }
+
+    @Override
+    public CompletableFuture<CategoryVersion> getCategoryVersion(Long id) {
+        return submit(() -> categoryService.getCategoryVersion(id));
+    }
+
+    @Override
+    public CompletableFuture<CategoryCatalogVersion> getCatalogVersion() {
+        return submit(categoryService::getCatalogVersion);
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> getCategoryByName(String name) {
+        return submit(() -> categoryService.getCategoryByName(name));
+    }
+
+    @Override
+    public CompletableFuture<List<CategoryResponseDTO>> searchByPartialName(String name) {
+        return submit(() -> categoryService.searchByPartialName(name));
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> updateCategory(Long id, UpdateCategoryDTO dto) {
+        return submit(() -> categoryService.updateCategory(id, dto));
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> disableCategory(Long id) {
+        return submit(() -> categoryService.disableCategory(id));
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> enableCategory(Long id) {
+        return submit(() -> categoryService.enableCategory(id));
+    }
+
+    @Override
+    public CompletableFuture<CategoryResponseDTO> deleteCategory(Long id) {
+        return submit(() -> categoryService.deleteCategory(id));
+    }
+
+    @Override
+    public CompletableFuture<List<CategoryBulkResultDTO>> disableCategories(List<Long> ids) {
+        return submit(() -> categoryService.disableCategories(ids));
+    }
+
+    @Override
+    public CompletableFuture<List<CategoryBulkResultDTO>> enableCategories(List<Long> ids) {
+        return submit(() -> categoryService.enableCategories(ids));
+    }
+
+    @Override
+    public CompletableFuture<List<CategoryBulkResultDTO>> deleteCategories(List<Long> ids) {
+        return submit(() -> categoryService.deleteCategories(ids));
+    }
+
+    @Override
+    public CompletableFuture<List<CategoryResponseDTO>> getCategoryByStatus(Status status) {
+        return submit(() -> categoryService.getCategoryByStatus(status));
+    }
+
+    @Override
+    public CompletableFuture<Page<CategoryResponseDTO>> getAllCategories(Pageable pageable,
+            CategoryFilterDTO filter) {
+        return submit(() -> categoryService.getAllCategories(pageable, filter));
+    }
+
+    @Override
+    public CompletableFuture<CategoryCursorPageDTO> getAllCategories(String cursor, int size,
+            CategorySortKey sortKey, Sort.Direction direction, CategoryFilterDTO filter) {
+        return submit(() -> categoryService.getAllCategories(cursor, size, sortKey, direction, filter));
+    }
+
+    @Override
+    public CompletableFuture<CategoryChangesDTO> getCategoryChanges(String watermark, LocalDateTime since,
+            int size) {
+        return submit(() -> categoryService.getCategoryChanges(watermark, since, size));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.category.async.pending", dispatcher, Dispatcher::pending)
+                .description("Asynchronous category calls queued or running")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.async.rejected", dispatcher.rejected, LongAdder::sum)
+                .description("Asynchronous category calls rejected because too many were pending")
+                .register(registry);
+        FunctionCounter.builder("catalog.category.async.timeouts", dispatcher.timeouts, LongAdder::sum)
+                .description("Asynchronous category calls that did not finish within their timeout")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return dispatcher.submit(call, timeout);
+    }
+
+    /**
+     * Executor and limits shared by the service and its timeout views.
+     */
+
+    private static final class Dispatcher {
+
+        private final ExecutorService executor;
+
+        // Calls queued or running
+        private final Semaphore admitted;
+
+        private final int maxPending;
+
+        // Calls running; only limiting with virtual threads, the platform pool
+        // already has max-concurrency threads
+        private final Semaphore running;
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder timeouts = new LongAdder();
+
+        Dispatcher(boolean virtualThreads, int maxConcurrency, int queueCapacity) {
+            if (maxConcurrency < 1 || queueCapacity < 0) {
+                throw new IllegalArgumentException(
+                        "catalog.category.async.max-concurrency must be positive and queue-capacity not negative");
+            }
+            this.maxPending = maxConcurrency + queueCapacity;
+            this.admitted = new Semaphore(maxPending);
+            this.running = new Semaphore(maxConcurrency, true);
+            this.executor = virtualThreads
+                    ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("category-async-", 0).factory())
+                    : new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("category-async-"));
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> call, Duration timeout) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            if (!admitted.tryAcquire()) {
+                rejected.increment();
+                result.completeExceptionally(
+                        new RejectedExecutionException("Too many pending category calls: " + maxPending));
+                return result;
+            }
+
+            result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((value, ex) -> {
+                if (ex instanceof TimeoutException) {
+                    timeouts.increment();
+                }
+            });
+
+            boolean primaryForced = ReplicaRoutingContext.isPrimaryForced();
+            try {
+                executor.execute(() -> run(call, result, primaryForced));
+            } catch (RejectedExecutionException ex) {
+                // Only after shutdown
+                admitted.release();
+                result.completeExceptionally(ex);
+            }
+            return result;
+        }
+
+        private <T> void run(Supplier<T> call, CompletableFuture<T> result, boolean primaryForced) {
+            try {
+                running.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                admitted.release();
+                result.completeExceptionally(ex);
+                return;
+            }
+
+            try {
+                // Timed out while waiting for a turn: nobody wants the result
+                if (result.isDone()) {
+                    return;
+                }
+                if (primaryForced) {
+                    ReplicaRoutingContext.forcePrimary();
+                }
+                result.complete(call.get());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            } finally {
+                ReplicaRoutingContext.clear();
+                running.release();
+                admitted.release();
+            }
+        }
+
+        int pending() {
+            return maxPending - admitted.availablePermits();
+        }
+
+    }
+
+}
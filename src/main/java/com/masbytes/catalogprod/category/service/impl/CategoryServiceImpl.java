@@ -1,26 +1,66 @@
 package com.masbytes.catalogprod.category.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.masbytes.catalogprod.category.cache.CategoryCache;
+import com.masbytes.catalogprod.category.cache.CategoryLoadCoalescer;
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.cache.CategoryStatusView;
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO;
+import com.masbytes.catalogprod.category.dto.CategoryChangesDTO;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
 import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
 import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
 import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
 import com.masbytes.catalogprod.category.dto.UpdateCategoryDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.event.CategoryStatusChangedEvent;
 import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyExistsException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsActiveException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsInactiveException;
 import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
 import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
 import com.masbytes.catalogprod.category.mapper.CategoryMapper;
 import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.model.CategoryNames;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.outbox.CategoryOutboxEventType;
+import com.masbytes.catalogprod.category.pagination.CategoryChangeWatermark;
+import com.masbytes.catalogprod.category.pagination.CategoryCursor;
+import com.masbytes.catalogprod.category.pagination.CategorySortKey;
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryChange;
 import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
 import com.masbytes.catalogprod.category.service.CategoryService;
+import com.masbytes.catalogprod.category.specification.CategorySpecifications;
 import com.masbytes.catalogprod.category.validation.CategoryValidator;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
 import com.masbytes.catalogprod.enums.Status;
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
 
 /**
  * CategoryServiceImpl
@@ -29,18 +69,77 @@ import com.masbytes.catalogprod.enums.Status;
  * the business logic for managing categories.
  * It uses the CategoryRepository to interact with the database and
  * the CategoryMapper to map between entities and DTOs.
+ * 
+ * Lookups by ID and by name are served from the CategoryCache when possible;
+ * every write publishes a CategoryChangedEvent so the cache is invalidated
+ * once the transaction commits. Concurrent misses on the same ID or name
+ * share one repository load through the CategoryLoadCoalescer, and IDs and
+ * names recently found not to exist are rejected from the
+ * CategoryNegativeCache without a query. Partial name searches are answered by the
+ * CategoryNameIndex, falling back to the repository until it is built.
+ * Listings by status are served from the CategoryStatusSnapshot the same way.
+ * 
+ * Creations only query the database for name conflicts when the
+ * CategoryNameFilter says the name may already exist; the unique index on
+ * name_normalized catches whatever the filter has not seen yet.
+ * 
+ * Every mutation also writes a change event to the CategoryOutbox in its own
+ * transaction, for services that keep a copy of the catalog. Before its first
+ * write it takes a change version from CategoryChangeVersions and stamps it on
+ * every row it touches, which orders the changes by commit.
+ * 
+ * Read-only listings and searches use projection queries that select straight
+ * into CategoryResponseDTO, skipping entity hydration and dirty checking.
  */
 
 @Service
 public class CategoryServiceImpl implements CategoryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_CHANGES_SIZE = 1000;
+
+    // Keeps IN lists well below the 2100 parameter limit of SQL Server
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final CategoryRepository categoryRepository;
 
     private final CategoryMapper categoryMapper;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    private final CategoryCache categoryCache;
+
+    private final CategoryLoadCoalescer categoryLoadCoalescer;
+
+    private final CategoryNegativeCache categoryNegativeCache;
+
+    private final CategoryStatusSnapshot categoryStatusSnapshot;
+
+    private final CategoryNameIndex categoryNameIndex;
+
+    private final CategoryNameFilter categoryNameFilter;
+
+    private final CategoryOutbox categoryOutbox;
+
+    private final CategoryChangeVersions categoryChangeVersions;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper,
+            CategoryCache categoryCache, CategoryLoadCoalescer categoryLoadCoalescer,
+            CategoryNegativeCache categoryNegativeCache, CategoryStatusSnapshot categoryStatusSnapshot, CategoryNameIndex categoryNameIndex,
+            CategoryNameFilter categoryNameFilter, CategoryOutbox categoryOutbox,
+            CategoryChangeVersions categoryChangeVersions, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.categoryCache = categoryCache;
+        this.categoryLoadCoalescer = categoryLoadCoalescer;
+        this.categoryNegativeCache = categoryNegativeCache;
+        this.categoryStatusSnapshot = categoryStatusSnapshot;
+        this.categoryNameIndex = categoryNameIndex;
+        this.categoryNameFilter = categoryNameFilter;
+        this.categoryOutbox = categoryOutbox;
+        this.categoryChangeVersions = categoryChangeVersions;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -64,24 +163,120 @@ public class CategoryServiceImpl implements CategoryService {
         // Validate the input data
         CategoryValidator.validateCategoryRequest(dto);
 
-        // Normalize the category name
-        // by trimming and converting it to uppercase
-        String normalizedName = dto.getName().trim().toUpperCase(Locale.ROOT);
+        // Normalize the category name with the routine that fills name_normalized
+        String normalizedName = CategoryNames.normalize(dto.getName());
 
         // Check if a category with the same name already exists
-        // using the normalized name
-        if (categoryRepository.existsByName(normalizedName)) {
-            throw new CategoryAlreadyExistsException("Category with name " + normalizedName + " already exists");
+        // using the normalized name (an index seek on name_normalized),
+        // unless the name filter knows for sure that it does not
+        if (categoryNameFilter.mightContain(normalizedName)) {
+            if (categoryRepository.existsByNameNormalized(normalizedName)) {
+                throw new CategoryAlreadyExistsException("Category with name " + normalizedName + " already exists");
+            }
+            categoryNameFilter.recordFalsePositive();
         }
 
         // Create a new Category entity from the DTO
         Category category = CategoryMapper.toEntity(dto);
+        category.setChangeVersion(categoryChangeVersions.next());
+
+        // Save the new category to the database, flushing so that a name the
+        // filter did not know about is reported by the unique index here
+        Category savedCategory;
+        try {
+            savedCategory = categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException ex) {
+            throw nameConflict(ex, "Category with name " + normalizedName + " already exists");
+        }
+
+        // Invalidate any cached entry for this name once the transaction commits
+        // and record the change for downstream consumers
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId(), null, savedCategory.getNameNormalized()));
+        CategoryResponseDTO response = CategoryMapper.toResponseDTO(savedCategory);
+        categoryOutbox.record(CategoryOutboxEventType.CREATED, response);
+        return response;
+
+    }
+
+    /**
+     * Creates several categories at once.
+     * 
+     * Validates every entry first, then resolves name conflicts with a single
+     * IN query (chunked for very large requests) and persists the new
+     * categories with one saveAllAndFlush call, which Hibernate sends as JDBC
+     * batches. A name taken by a concurrent creation after the IN query is
+     * reported by the unique index on flush.
+     *
+     * @param dtos The list of CategoryRequestDTOs to create.
+     * @return one CategoryBulkResultDTO per entry, in request order.
+     * @throws CategoryInvalidDataException    If the list is null or empty, or
+     *                                         if any entry is invalid.
+     * @throws CategoryAlreadyExistsException If a name was taken concurrently.
+     */
+
+    @Override
+    @Transactional
+    public List<CategoryBulkResultDTO> createCategories(List<CategoryRequestDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new CategoryInvalidDataException("Category list cannot be null or empty");
+        }
+
+        // Validate every entry before touching the database
+        dtos.forEach(CategoryValidator::validateCategoryRequest);
+
+        List<String> normalizedNames = dtos.stream()
+                .map(dto -> CategoryNames.normalize(dto.getName()))
+                .toList();
+
+        // Resolve all name conflicts with as few round trips as possible
+        Set<String> takenNames = new HashSet<>();
+        List<String> distinctNames = new ArrayList<>(new LinkedHashSet<>(normalizedNames));
+        for (int from = 0; from < distinctNames.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinctNames.size());
+            List<String> chunk = distinctNames.subList(from, to);
+            takenNames.addAll(categoryRepository.findExistingNames(chunk));
+        }
 
-        // Save the new category to the database
-        // and return the response DTO
-        Category savedCategory = categoryRepository.save(category);
-        return CategoryMapper.toResponseDTO(savedCategory);
+        // Build the entities to insert; repeated names within the request are duplicates too
+        List<Category> toCreate = new ArrayList<>();
+        List<Integer> createdIndexes = new ArrayList<>();
+        long changeVersion = categoryChangeVersions.next();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (takenNames.add(normalizedNames.get(i))) {
+                Category category = CategoryMapper.toEntity(dtos.get(i));
+                category.setChangeVersion(changeVersion);
+                toCreate.add(category);
+                createdIndexes.add(i);
+            }
+        }
+
+        List<Category> saved;
+        try {
+            saved = categoryRepository.saveAllAndFlush(toCreate);
+        } catch (DataIntegrityViolationException ex) {
+            throw nameConflict(ex, "One or more category names already exist");
+        }
 
+        CategoryBulkResultDTO[] results = new CategoryBulkResultDTO[dtos.size()];
+        List<CategoryResponseDTO> created = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            Category category = saved.get(i);
+            int index = createdIndexes.get(i);
+            CategoryResponseDTO response = CategoryMapper.toResponseDTO(category);
+            created.add(response);
+            results[index] = new CategoryBulkResultDTO(index, normalizedNames.get(index),
+                    CategoryBulkResultDTO.Outcome.CREATED, response);
+            eventPublisher.publishEvent(new CategoryChangedEvent(category.getId(), null, category.getNameNormalized()));
+        }
+        categoryOutbox.recordAll(CategoryOutboxEventType.CREATED, created);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = new CategoryBulkResultDTO(i, normalizedNames.get(i),
+                        CategoryBulkResultDTO.Outcome.DUPLICATE, null);
+            }
+        }
+
+        return List.of(results);
     }
 
     /**
@@ -104,16 +299,80 @@ public class CategoryServiceImpl implements CategoryService {
             throw new CategoryInvalidDataException("Category ID cannot be null");
         }
 
-        // Find the category by ID using the repository and map it to a response DTO
-        // If the category is not found, throw a CategoryNotFoundException
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException("Category not found with ID: " + id));
+        // Serve the category from the cache if it is already there
+        CategoryResponseDTO cached = categoryCache.getById(id).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Reject IDs recently found not to exist without querying again
+        if (categoryNegativeCache.isMissingId(id)) {
+            throw CategoryNotFoundException.forId(id);
+        }
+
+        // Find the category by ID using the repository, sharing the query with
+        // concurrent misses on the same ID
+        // The result is cached, so it is read from the primary: a lagging
+        // replica would keep serving its stale copy until the next change
+        // If the category is not found, remember it and throw a CategoryNotFoundException
+        return categoryLoadCoalescer.loadById(id, () -> ReplicaRoutingContext.callOnPrimary(() -> {
+            long cacheGeneration = categoryCache.generation();
+            long generation = categoryNegativeCache.generation();
+            Category category = categoryRepository.findById(id).orElseThrow(() -> {
+                categoryNegativeCache.markMissingId(id, generation);
+                return CategoryNotFoundException.forId(id);
+            });
+
+            // Map the found category to a response DTO
+            // and keep it in the cache for the next lookups,
+            // unless the category changed while it was being read
+            CategoryResponseDTO response = CategoryMapper.toResponseDTO(category);
+            categoryCache.put(response, cacheGeneration);
+            return response;
+        }));
+    }
+
+    /**
+     * Retrieves the version of a category.
+     * 
+     * Served from the cached category when there is one, otherwise from a
+     * query that selects only the ID and the last update date.
+     * 
+     * @param id The ID of the category.
+     * @return the CategoryVersion of the category.
+     * @throws CategoryInvalidDataException if the ID is null.
+     * @throws CategoryNotFoundException    if the category does not exist.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryVersion getCategoryVersion(Long id) {
+        // Check if the ID is null and throw an exception if it is
+        if (id == null) {
+            throw new CategoryInvalidDataException("Category ID cannot be null");
+        }
+
+        // A cached category already carries its last update date
+        CategoryResponseDTO cached = categoryCache.getById(id).orElse(null);
+        if (cached != null) {
+            return new CategoryVersion(cached.getId(), cached.getUpdatedAt());
+        }
+
+        return categoryRepository.findVersionById(id)
+                .orElseThrow(() -> CategoryNotFoundException.forId(id));
+    }
 
-        // Map the found category to a response DTO
-        // and return it wrapped in an Optional
-        // If the category is null, return an empty Optional
-        // Otherwise, return the mapped response DTO
-        return CategoryMapper.toResponseDTO(category);
+    /**
+     * Retrieves the version of the whole catalog.
+     * 
+     * @return the CategoryCatalogVersion, answered from the ID and updated_at
+     *         indexes
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryCatalogVersion getCatalogVersion() {
+        return categoryRepository.findCatalogVersion();
     }
 
     /**
@@ -136,27 +395,43 @@ public class CategoryServiceImpl implements CategoryService {
             throw new CategoryInvalidDataException("Category name cannot be null or empty");
         }
 
-        // Normalize the category name by trimming and converting it to uppercase
+        // Normalize the category name with the routine that fills name_normalized
         // to ensure consistent comparison
-        String normalizedName = name.trim().toUpperCase(Locale.ROOT);
-
-        // Find the category by name using the repository and map it to a response DTO
-        // If the category is not found, throw a CategoryNotFoundException
-        Category category = categoryRepository.findByName(normalizedName)
-                .orElseThrow(() -> new CategoryNotFoundException("Category not found with name: " + normalizedName));
+        String normalizedName = CategoryNames.normalize(name);
+
+        // Serve the category from the cache if it is already there,
+        // otherwise find it by name using the repository, sharing the query with
+        // concurrent misses on the same name, and cache the result
+        // Names recently found not to exist are rejected without querying again
+        // Like the load by ID, the cached result is read from the primary
+        // If the category is not found, remember it and throw a CategoryNotFoundException
+        CategoryResponseDTO response = categoryCache.getByName(normalizedName).orElse(null);
+        if (response == null) {
+            if (categoryNegativeCache.isMissingName(normalizedName)) {
+                throw CategoryNotFoundException.forName(normalizedName);
+            }
+            response = categoryLoadCoalescer.loadByName(normalizedName,
+                    () -> ReplicaRoutingContext.callOnPrimary(() -> {
+                long cacheGeneration = categoryCache.generation();
+                long generation = categoryNegativeCache.generation();
+                Category category = categoryRepository.findByNameNormalized(normalizedName).orElseThrow(() -> {
+                    categoryNegativeCache.markMissingName(normalizedName, generation);
+                    return CategoryNotFoundException.forName(normalizedName);
+                });
+                CategoryResponseDTO loaded = CategoryMapper.toResponseDTO(category);
+                categoryCache.put(loaded, cacheGeneration);
+                return loaded;
+            }));
+        }
 
         // Check if the category is deleted
         // If it is, throw a CategoryNotFoundException
         // to indicate that the category is not available
-        // If the category is not deleted, return the mapped response DTO
-        // If the category is deleted, throw a CategoryNotFoundException
-        if (category.getStatus() == Status.DELETED) {
+        if (response.getStatus() == Status.DELETED) {
             throw new CategoryNotFoundException("Category with name " + normalizedName + " is deleted");
         }
 
-        // Map the found category to a response DTO
-        // and return it wrapped in an Optional
-        return CategoryMapper.toResponseDTO(category);
+        return response;
     }
 
     /**
@@ -182,13 +457,15 @@ public class CategoryServiceImpl implements CategoryService {
             throw new CategoryInvalidDataException("Category name cannot be null or empty");
         }
 
-        // Normalize the category name by trimming and converting it to uppercase
-        // to ensure consistent comparison
-        String normalizedName = name.trim();
+        // Trim and upper-case the partial name like the stored names,
+        // keeping its inner spaces as typed
+        String normalizedName = CategoryNames.normalizeSearchTerm(name);
 
-        // Find categories by partial name using the repository
-        // and map them to response DTOs
-        List<Category> categories = categoryRepository.findByNameContainingIgnoreCase(normalizedName);
+        // Resolve the matching IDs from the trigram index and project only those rows;
+        // fall back to the LIKE query while the index is not built yet
+        List<CategoryResponseDTO> categories = categoryNameIndex.search(normalizedName)
+                .map(ids -> findMatchingByIds(ids, normalizedName))
+                .orElseGet(() -> categoryRepository.findResponsesByNameContaining(normalizedName));
 
         // Check if any categories were found
         // If no categories were found, throw a CategoryNotFoundException
@@ -196,11 +473,8 @@ public class CategoryServiceImpl implements CategoryService {
             throw new CategoryNotFoundException("No categories found matching: " + normalizedName);
         }
 
-        // Return the list of mapped response DTOs
-        // by using the CategoryMapper to convert each category entity to a DTO
-        return categories.stream()
-                .map(CategoryMapper::toResponseDTO)
-                .toList();
+        // The rows are already projected into response DTOs, no entity was loaded
+        return categories;
     }
 
     /**
@@ -236,49 +510,480 @@ public class CategoryServiceImpl implements CategoryService {
         // Normalize the category name by trimming and converting it to uppercase
         // to ensure consistent comparison
         Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException("Category not found with ID: " + id));
+                .orElseThrow(() -> CategoryNotFoundException.forId(id));
+
+        // Keep the current name so its cache entry can be invalidated after a rename
+        String previousName = category.getNameNormalized();
 
         // Update the category entity with the new data
         // using the CategoryMapper to convert the DTO to an entity
         CategoryMapper.updateEntity(category, dto);
+        category.setChangeVersion(categoryChangeVersions.next());
+
+        // Save the updated category to the database, flushing so the response
+        // and the outbox event carry the new update date
+        Category updatedCategory;
+        try {
+            updatedCategory = categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException ex) {
+            throw nameConflict(ex, "Category with name " + category.getNameNormalized() + " already exists");
+        }
 
-        // Save the updated category to the database
-        // and return the response DTO
-        Category updatedCategory = categoryRepository.save(category);
+        // Invalidate the cached entries once the transaction commits
+        eventPublisher.publishEvent(
+                new CategoryChangedEvent(updatedCategory.getId(), previousName, updatedCategory.getNameNormalized()));
 
         // Return the updated category as a response DTO
         // by using the CategoryMapper to convert the updated entity to a DTO
-        return CategoryMapper.toResponseDTO(updatedCategory);
+        CategoryResponseDTO response = CategoryMapper.toResponseDTO(updatedCategory);
+        categoryOutbox.record(CategoryOutboxEventType.UPDATED, response);
+        return response;
+    }
+
+    /**
+     * Projects the categories found by the name index, ordered by ID.
+     * 
+     * Rows renamed after the index answered are filtered out by the query on
+     * name_normalized, so the result always matches the partial name.
+     * 
+     * @param ids            the candidate IDs returned by the index, sorted
+     * @param normalizedName the partial name being searched
+     * @return the matching categories
+     */
+
+    private List<CategoryResponseDTO> findMatchingByIds(List<Long> ids, String normalizedName) {
+        List<CategoryResponseDTO> matches = new ArrayList<>();
+
+        // The IDs are sorted, so the chunks come back already in ID order
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size());
+            matches.addAll(categoryRepository.findResponsesByIdInAndNameContaining(ids.subList(from, to),
+                    normalizedName));
+        }
+        return matches;
     }
 
+    /**
+     * Disables an active category.
+     * 
+     * @param id The ID of the category to disable.
+     * @return the disabled CategoryResponseDTO.
+     * @throws CategoryInvalidDataException       if the ID is null.
+     * @throws CategoryAlreadyIsInactiveException if the category is already
+     *                                            inactive.
+     * @throws CategoryNotFoundException          if the category does not exist
+     *                                            or is deleted.
+     */
+
     @Override
+    @Transactional
     public CategoryResponseDTO disableCategory(Long id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'disableCategory'");
+        return changeStatus(id, EnumSet.of(Status.ACTIVE), Status.INACTIVE);
     }
 
+    /**
+     * Enables an inactive category.
+     * 
+     * @param id The ID of the category to enable.
+     * @return the enabled CategoryResponseDTO.
+     * @throws CategoryInvalidDataException     if the ID is null.
+     * @throws CategoryAlreadyIsActiveException if the category is already
+     *                                          active.
+     * @throws CategoryNotFoundException        if the category does not exist or
+     *                                          is deleted.
+     */
+
     @Override
+    @Transactional
     public CategoryResponseDTO enableCategory(Long id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'enableCategory'");
+        return changeStatus(id, EnumSet.of(Status.INACTIVE), Status.ACTIVE);
     }
 
+    /**
+     * Soft-deletes an active or inactive category.
+     * 
+     * @param id The ID of the category to delete.
+     * @return the deleted CategoryResponseDTO, with its deletion date.
+     * @throws CategoryInvalidDataException if the ID is null.
+     * @throws CategoryNotFoundException    if the category does not exist or is
+     *                                      already deleted.
+     */
+
     @Override
+    @Transactional
     public CategoryResponseDTO deleteCategory(Long id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'deleteCategory'");
+        return changeStatus(id, EnumSet.of(Status.ACTIVE, Status.INACTIVE), Status.DELETED);
+    }
+
+    /**
+     * Applies a status transition with one conditional UPDATE, then reads the
+     * row back as a projection.
+     * 
+     * No entity is loaded or dirty-checked, and the transition cannot be lost
+     * to a concurrent one: the WHERE clause re-checks the current status in the
+     * same statement. When no row is updated, the status read back tells why.
+     * 
+     * @param id     the category ID
+     * @param from   the statuses the transition is allowed from
+     * @param target the new status
+     * @return the category after the transition
+     */
+
+    private CategoryResponseDTO changeStatus(Long id, Set<Status> from, Status target) {
+        // Check if the ID is null and throw an exception if it is
+        if (id == null) {
+            throw new CategoryInvalidDataException("Category ID cannot be null");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = categoryRepository.updateStatus(id, from, target, now,
+                target == Status.DELETED ? now : null, categoryChangeVersions.next());
+
+        // Read the row back: its new state on success, the reason of the rejection otherwise
+        CategoryResponseDTO category = categoryRepository.findResponseById(id)
+                .orElseThrow(() -> CategoryNotFoundException.forId(id));
+
+        if (updated == 0) {
+            throw switch (category.getStatus()) {
+                case ACTIVE -> new CategoryAlreadyIsActiveException("Category with ID " + id + " is already active");
+                case INACTIVE ->
+                    new CategoryAlreadyIsInactiveException("Category with ID " + id + " is already inactive");
+                case DELETED -> new CategoryNotFoundException("Category with ID " + id + " is deleted");
+            };
+        }
+
+        // Invalidate the cached entries once the transaction commits
+        // and record the change for downstream consumers
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, null, CategoryNames.normalize(category.getName())));
+        categoryOutbox.record(CategoryOutboxEventType.of(target), category);
+        return category;
+    }
+
+    /**
+     * Disables several active categories at once.
+     * 
+     * @param ids The IDs of the categories to disable.
+     * @return one CategoryBulkResultDTO per ID, in request order.
+     * @throws CategoryInvalidDataException if the list is null or empty, or
+     *                                      contains a null ID.
+     */
+
+    @Override
+    @Transactional
+    public List<CategoryBulkResultDTO> disableCategories(List<Long> ids) {
+        return changeStatuses(ids, EnumSet.of(Status.ACTIVE), Status.INACTIVE);
+    }
+
+    /**
+     * Enables several inactive categories at once.
+     * 
+     * @param ids The IDs of the categories to enable.
+     * @return one CategoryBulkResultDTO per ID, in request order.
+     * @throws CategoryInvalidDataException if the list is null or empty, or
+     *                                      contains a null ID.
+     */
+
+    @Override
+    @Transactional
+    public List<CategoryBulkResultDTO> enableCategories(List<Long> ids) {
+        return changeStatuses(ids, EnumSet.of(Status.INACTIVE), Status.ACTIVE);
+    }
+
+    /**
+     * Soft-deletes several categories at once.
+     * 
+     * @param ids The IDs of the categories to delete.
+     * @return one CategoryBulkResultDTO per ID, in request order.
+     * @throws CategoryInvalidDataException if the list is null or empty, or
+     *                                      contains a null ID.
+     */
+
+    @Override
+    @Transactional
+    public List<CategoryBulkResultDTO> deleteCategories(List<Long> ids) {
+        return changeStatuses(ids, EnumSet.of(Status.ACTIVE, Status.INACTIVE), Status.DELETED);
+    }
+
+    /**
+     * Applies a status transition to many categories with one conditional
+     * UPDATE per chunk of IDs, then reads each chunk back as projections.
+     * 
+     * The rows updated by this call are the ones that were in an allowed
+     * status just before the UPDATE and are read back with the change version
+     * of this transaction, whatever the precision of the updated_at column;
+     * every other row is classified by its current status, as in
+     * {@link #changeStatus}. The cache is invalidated with a single event for
+     * the whole operation.
+     * 
+     * @param ids    the category IDs, possibly repeated
+     * @param from   the statuses the transition is allowed from
+     * @param target the new status
+     * @return one result per ID, in request order
+     */
+
+    private List<CategoryBulkResultDTO> changeStatuses(List<Long> ids, Set<Status> from, Status target) {
+        if (ids == null || ids.isEmpty()) {
+            throw new CategoryInvalidDataException("Category ID list cannot be null or empty");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new CategoryInvalidDataException("Category ID cannot be null");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedAt = target == Status.DELETED ? now : null;
+        long changeVersion = categoryChangeVersions.next();
+
+        // One UPDATE and two SELECTs per chunk, whatever the number of IDs
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<Long> eligible = new HashSet<>();
+        Map<Long, CategoryChange> categories = new HashMap<>();
+        for (int start = 0; start < distinctIds.size(); start += IN_CLAUSE_CHUNK_SIZE) {
+            int end = Math.min(start + IN_CLAUSE_CHUNK_SIZE, distinctIds.size());
+            List<Long> chunk = distinctIds.subList(start, end);
+            // The change version alone cannot tell: rows changed earlier in
+            // the same transaction already carry it
+            eligible.addAll(categoryRepository.findIdsByIdInAndStatusIn(chunk, from));
+            categoryRepository.updateStatusByIds(chunk, from, target, now, deletedAt, changeVersion);
+            categoryRepository.findChangesByIdIn(chunk)
+                    .forEach(change -> categories.put(change.category().getId(), change));
+        }
+
+        List<CategoryBulkResultDTO> results = new ArrayList<>(ids.size());
+        List<CategoryResponseDTO> updated = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            CategoryChange change = categories.get(id);
+            CategoryResponseDTO category = change != null ? change.category() : null;
+            String name = category != null ? category.getName() : null;
+
+            // Repeated IDs are reported once; later occurrences are duplicates
+            if (!seen.add(id)) {
+                results.add(new CategoryBulkResultDTO(i, name, CategoryBulkResultDTO.Outcome.DUPLICATE, null));
+                continue;
+            }
+
+            CategoryBulkResultDTO.Outcome outcome = bulkOutcome(change, eligible.contains(id), changeVersion);
+            if (outcome == CategoryBulkResultDTO.Outcome.UPDATED) {
+                updated.add(category);
+            }
+            results.add(new CategoryBulkResultDTO(i, name, outcome,
+                    outcome == CategoryBulkResultDTO.Outcome.NOT_FOUND ? null : category));
+        }
+
+        // Invalidate the cached entries once the transaction commits
+        // and record the changes for downstream consumers
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(
+                    new CategoryStatusChangedEvent(updated.stream().map(CategoryResponseDTO::getId).toList()));
+            categoryOutbox.recordAll(CategoryOutboxEventType.of(target), updated);
+        }
+        return results;
+    }
+
+    /**
+     * Classifies a category read back after a bulk transition.
+     * 
+     * @param change        the category and its change version, or null if
+     *                      it does not exist
+     * @param eligible      whether the category was in an allowed status
+     *                      before the transition
+     * @param changeVersion the change version written by the transition
+     * @return the outcome for that category
+     */
+
+    private static CategoryBulkResultDTO.Outcome bulkOutcome(CategoryChange change, boolean eligible,
+            long changeVersion) {
+        if (change == null) {
+            return CategoryBulkResultDTO.Outcome.NOT_FOUND;
+        }
+        if (eligible && change.changeVersion() == changeVersion) {
+            return CategoryBulkResultDTO.Outcome.UPDATED;
+        }
+        return switch (change.category().getStatus()) {
+            case ACTIVE -> CategoryBulkResultDTO.Outcome.ALREADY_ACTIVE;
+            case INACTIVE -> CategoryBulkResultDTO.Outcome.ALREADY_INACTIVE;
+            case DELETED -> CategoryBulkResultDTO.Outcome.NOT_FOUND;
+        };
     }
 
+    /**
+     * Retrieves the categories with the given status, ordered by ID.
+     * 
+     * The list is the one held by the CategoryStatusSnapshot, shared by every
+     * caller and unmodifiable, so no transaction is opened. Until the
+     * snapshot is built the rows are projected straight into response DTOs,
+     * in the repository's own read-only transaction.
+     * 
+     * @param status The status to filter by.
+     * @return a list of CategoryResponseDTOs with the given status.
+     * @throws CategoryInvalidDataException if the status is null.
+     * @throws CategoryNotFoundException    if no categories have the status.
+     */
+
     @Override
     public List<CategoryResponseDTO> getCategoryByStatus(Status status) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getCategoryByStatus'");
+        // Check if the status is null and throw an exception if it is
+        if (status == null) {
+            throw new CategoryInvalidDataException("Category status cannot be null");
+        }
+
+        List<CategoryResponseDTO> categories = categoryStatusSnapshot.view(status)
+                .map(CategoryStatusView::categories)
+                .orElseGet(() -> categoryRepository.findResponsesByStatus(status));
+
+        // Check if any categories were found
+        // If no categories were found, throw a CategoryNotFoundException
+        if (categories.isEmpty()) {
+            throw new CategoryNotFoundException("No categories found with status: " + status);
+        }
+
+        return categories;
     }
 
+    /**
+     * Retrieves categories with offset pagination.
+     * 
+     * Runs an OFFSET query plus a COUNT query, so it is meant for small admin
+     * views; large catalogs should use the keyset variant.
+     * 
+     * @param pageable the pagination information
+     * @param filter   the filter criteria to apply (optional)
+     * @return a page of CategoryResponseDTOs
+     * @throws CategoryInvalidDataException if the pagination information is null
+     */
+
     @Override
+    @Transactional(readOnly = true)
     public Page<CategoryResponseDTO> getAllCategories(Pageable pageable, CategoryFilterDTO filter) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getAllCategories'");
+        if (pageable == null) {
+            throw new CategoryInvalidDataException("Pagination information cannot be null");
+        }
+
+        return categoryRepository.findResponses(CategorySpecifications.fromFilter(filter), pageable);
+    }
+
+    /**
+     * Retrieves categories with keyset (cursor) pagination.
+     * 
+     * Fetches one row more than requested to know whether another page exists,
+     * and never runs a COUNT query.
+     * 
+     * @param cursor    the continuation token of the previous page, or null
+     * @param size      the maximum number of categories to return
+     * @param sortKey   the column to sort by
+     * @param direction the sort direction
+     * @param filter    the filter criteria to apply (optional)
+     * @return the page content and the token of the next page
+     * @throws CategoryInvalidDataException if the size is out of range or the
+     *                                      cursor is malformed
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryCursorPageDTO getAllCategories(String cursor, int size, CategorySortKey sortKey,
+            Sort.Direction direction, CategoryFilterDTO filter) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CategoryInvalidDataException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // The cursor carries the ordering of the first page, so it wins over the arguments
+        CategoryCursor position = (cursor != null && !cursor.isBlank()) ? CategoryCursor.decode(cursor) : null;
+        CategorySortKey key = position != null ? position.sortKey()
+                : (sortKey != null ? sortKey : CategorySortKey.ID);
+        Sort.Direction order = position != null ? position.direction()
+                : (direction != null ? direction : Sort.Direction.ASC);
+
+        // The ID is always the last sort column so that ties are broken consistently;
+        // categories without a value for the key come last, as the seek predicate expects
+        Sort.Order keyOrder = new Sort.Order(order, key.getProperty());
+        Sort sort = key == CategorySortKey.ID ? Sort.by(order, "id")
+                : Sort.by(key.isNullable() ? keyOrder.nullsLast() : keyOrder).and(Sort.by(order, "id"));
+
+        List<CategoryResponseDTO> rows = categoryRepository.findResponses(
+                Specification.where(CategorySpecifications.fromFilter(filter))
+                        .and(CategorySpecifications.after(position)),
+                sort, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<CategoryResponseDTO> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? CategoryCursor.after(key, order, content.get(content.size() - 1)).encode()
+                : null;
+        return new CategoryCursorPageDTO(content, nextCursor, hasNext);
+    }
+
+    /**
+     * Retrieves the categories changed since a watermark.
+     * 
+     * One range read on the (change_version, id) index per call: a client
+     * with nothing to catch up on gets an empty list after a single index
+     * probe. A date is translated into the lowest change version written
+     * since then, so the first read may repeat a few older changes but never
+     * misses one.
+     * 
+     * @param watermark the watermark returned by the previous read, or null
+     * @param since     the date of the last synchronization, used when there
+     *                  is no watermark; null reads the whole catalog
+     * @param size      the maximum number of changes to return
+     * @return the changes and the watermark of the next read
+     * @throws CategoryInvalidDataException if the watermark is malformed or
+     *                                      the size is out of range
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryChangesDTO getCategoryChanges(String watermark, LocalDateTime since, int size) {
+        if (size < 1 || size > MAX_CHANGES_SIZE) {
+            throw new CategoryInvalidDataException("Change page size must be between 1 and " + MAX_CHANGES_SIZE);
+        }
+
+        // The watermark wins over the date; with neither, the feed starts from the beginning
+        CategoryChangeWatermark position;
+        if (watermark != null && !watermark.isBlank()) {
+            position = CategoryChangeWatermark.decode(watermark);
+        } else if (since != null) {
+            // Start before the first change written since then,
+            // or after the latest one when nothing has changed
+            position = categoryRepository.findFirstChangeVersionSince(since)
+                    .map(first -> CategoryChangeWatermark.upTo(first - 1))
+                    .orElseGet(() -> CategoryChangeWatermark.upTo(categoryRepository.findLastChangeVersion()));
+        } else {
+            position = CategoryChangeWatermark.start();
+        }
+
+        // Change versions grow in commit order, so no uncommitted change can
+        // sort before the last row returned here
+        List<CategoryChange> rows = categoryRepository.findChangesAfter(position.changeVersion(), position.id(),
+                Limit.of(size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<CategoryChange> changes = hasMore ? rows.subList(0, size) : rows;
+
+        // With no changes the client keeps its position
+        CategoryChangeWatermark next = changes.isEmpty() ? position
+                : CategoryChangeWatermark.after(changes.get(changes.size() - 1));
+        return new CategoryChangesDTO(changes.stream().map(CategoryChange::category).toList(), next.encode(),
+                hasMore);
+    }
+
+    /**
+     * Translates a violation of the unique index on name_normalized, raised
+     * when a name the filter had not seen yet was inserted concurrently or
+     * outside this instance.
+     * 
+     * @param ex      the exception thrown by the flush
+     * @param message the message of the CategoryAlreadyExistsException
+     * @return the exception to throw
+     */
+
+    private static RuntimeException nameConflict(DataIntegrityViolationException ex, String message) {
+        String cause = ex.getMostSpecificCause().getMessage();
+        if (cause != null && cause.toLowerCase(Locale.ROOT).contains(Category.NAME_NORMALIZED_INDEX)) {
+            return new CategoryAlreadyExistsException(message, ex);
+        }
+        return ex;
     }
 
 }
@@ -0,0 +1,138 @@
+package com.masbytes.catalogprod.category.specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.model.CategoryNames;
+import com.masbytes.catalogprod.category.pagination.CategoryCursor;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Factory of JPA {@link Specification}s used to query categories.
+ *
+ * All methods are static and stateless.
+ */
+
+public class CategorySpecifications {
+
+    private CategorySpecifications() {
+    }
+
+    /**
+     * Builds the filter predicate for the given criteria.
+     * 
+     * Only the fields that are set produce a predicate, so every combination
+     * maps to a query that one of the category indexes can serve:
+     * <ul>
+     * <li>name: prefix match on the normalized name (unique index on
+     * name_normalized)</li>
+     * <li>status: equality (status and status/created_at indexes)</li>
+     * <li>createdAfter / createdBefore: exclusive range on created_at</li>
+     * </ul>
+     *
+     * @param filter the filter criteria, may be null
+     * @return the filter predicate, or null when no criteria is set
+     */
+
+    public static Specification<Category> fromFilter(CategoryFilterDTO filter) {
+        if (filter == null) {
+            return null;
+        }
+
+        String namePrefix = (filter.getName() != null && !filter.getName().isBlank())
+                ? CategoryNames.normalize(filter.getName())
+                : null;
+
+        if (namePrefix == null && filter.getStatus() == null && filter.getCreatedAfter() == null
+                && filter.getCreatedBefore() == null) {
+            return null;
+        }
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+
+            // A LIKE with a constant prefix on the normalized column is sargable,
+            // unlike '%x%' or UPPER(name)
+            if (namePrefix != null) {
+                predicates.add(cb.like(root.get("nameNormalized"), escapeLike(namePrefix) + "%", '\\'));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getCreatedAfter() != null) {
+                predicates.add(cb.greaterThan(root.get("createdAt"), filter.getCreatedAfter()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedBefore()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Seek predicate that selects the categories placed after the cursor:
+     * {@code key > v OR (key = v AND id > lastId)} for ascending order, and
+     * the mirrored comparison for descending order.
+     *
+     * Categories without a value for a nullable key sort last, so they follow
+     * every valued cursor ({@code OR key IS NULL}); a cursor without a value
+     * is only followed by the remaining ones
+     * ({@code key IS NULL AND id > lastId}).
+     *
+     * @param cursor the position of the last category returned, or null for the
+     *               first page
+     * @return the keyset predicate, or null when there is no cursor
+     */
+
+    public static Specification<Category> after(CategoryCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        boolean ascending = cursor.direction() == Sort.Direction.ASC;
+
+        return (root, query, cb) -> {
+            Expression<Long> id = root.get("id");
+            Predicate idAfter = ascending ? cb.greaterThan(id, cursor.lastId()) : cb.lessThan(id, cursor.lastId());
+
+            if ("id".equals(cursor.sortKey().getProperty())) {
+                return idAfter;
+            }
+
+            Expression<Comparable<Object>> key = root.get(cursor.sortKey().getProperty());
+            if (cursor.lastValue() == null) {
+                return cb.and(cb.isNull(key), idAfter);
+            }
+
+            Comparable<Object> value = parse(cursor);
+            Predicate after = cb.or(
+                    compare(cb, key, value, ascending),
+                    cb.and(cb.equal(key, value), idAfter));
+            return cursor.sortKey().isNullable() ? cb.or(after, cb.isNull(key)) : after;
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parse(CategoryCursor cursor) {
+        return (Comparable<Object>) cursor.sortKey().parse(cursor.lastValue());
+    }
+
+    private static Predicate compare(CriteriaBuilder cb, Expression<Comparable<Object>> key,
+            Comparable<Object> value, boolean ascending) {
+        return ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import com.masbytes.catalogprod.category.model.Category;
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+
+/**
+ * Feeds a chunk of new categories to {@code SQLServerBulkCopy}.
+ *
+ * The id column is not sent: SQL Server fills it from the
+ * {@code catalog.category_seq} default (see db/sqlserver/002).
+ */
+
+class CategoryBulkData implements ISQLServerBulkData {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String[] COLUMNS = { "name", "name_normalized", "description", "status", "created_at",
+            "updated_at", "change_version" };
+
+    private static final int[] TYPES = { Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.BIGINT };
+
+    private static final int[] PRECISIONS = { 50, 50, 255, 255, 26, 26, 19 };
+
+    private static final int[] SCALES = { 0, 0, 0, 0, 6, 6, 0 };
+
+    private final transient Iterator<Category> categories;
+
+    private final Timestamp now;
+
+    private transient Category current;
+
+    CategoryBulkData(List<Category> categories, LocalDateTime now) {
+        this.categories = categories.iterator();
+        this.now = Timestamp.valueOf(now);
+    }
+
+    @Override
+    public Set<Integer> getColumnOrdinals() {
+        return Set.of(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column - 1];
+    }
+
+    @Override
+    public int getColumnType(int column) {
+        return TYPES[column - 1];
+    }
+
+    @Override
+    public int getPrecision(int column) {
+        return PRECISIONS[column - 1];
+    }
+
+    @Override
+    public int getScale(int column) {
+        return SCALES[column - 1];
+    }
+
+    @Override
+    public Object[] getRowData() {
+        return new Object[] { current.getName(), current.getNameNormalized(), current.getDescription(),
+                current.getStatus().name(), now, now, current.getChangeVersion() };
+    }
+
+    @Override
+    public boolean next() {
+        if (!categories.hasNext()) {
+            return false;
+        }
+        current = categories.next();
+        return true;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+
+/**
+ * Incremental RFC 4180 CSV parser.
+ *
+ * Records are read one at a time from the underlying reader through a fixed
+ * buffer, so the input is never held in memory as a whole. Quoted fields may
+ * contain separators, doubled quotes and line breaks; records may end with
+ * CRLF or LF.
+ */
+
+class CategoryCsvReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private long line = 1;
+
+    private long recordLine;
+
+    CategoryCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException                  if reading fails
+     * @throws CategoryInvalidDataException if a quoted field is not terminated
+     */
+
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+
+        while (true) {
+            if (c == '"' && field.isEmpty()) {
+                c = readQuoted(field);
+            }
+
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                c = read();
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                c = read();
+            }
+        }
+    }
+
+    /**
+     * @return the line number where the last record read starts
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Reads a quoted field up to its closing quote.
+     *
+     * @return the character that follows the closing quote
+     */
+    private int readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new CategoryInvalidDataException("Unterminated quoted field at line " + recordLine);
+            }
+            if (c == '"') {
+                if (peek() != '"') {
+                    return read();
+                }
+                read();
+            } else if (c == '\n') {
+                line++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, BUFFER_SIZE);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+}
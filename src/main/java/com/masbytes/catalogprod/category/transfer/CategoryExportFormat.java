@@ -0,0 +1,62 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+
+/**
+ * Formats the whole catalog can be exported in.
+ */
+
+public enum CategoryExportFormat {
+
+    /**
+     * One JSON object per line, with the same fields as the API responses
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * RFC 4180 CSV with a header row, UTF-8 encoded
+     */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    CategoryExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolves a format from its name, ignoring case.
+     *
+     * @param value the format name, e.g. "ndjson" or "csv"
+     * @return the matching format
+     * @throws CategoryInvalidDataException if the format is not supported
+     */
+
+    public static CategoryExportFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            throw new CategoryInvalidDataException("Export format cannot be null or empty");
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new CategoryInvalidDataException("Unsupported export format: " + value, ex);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.mapper.CategoryMapper;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes the whole catalog to an output stream as NDJSON or CSV.
+ *
+ * Rows are read through a server-side cursor ({@link CategoryRepository#streamAll()})
+ * and each entity is detached as soon as it has been written, so memory use
+ * does not grow with the number of categories. Output is flushed to the
+ * client every {@value #FLUSH_EVERY_ROWS} rows.
+ */
+
+@Component
+public class CategoryExporter {
+
+    static final String CSV_HEADER = "id,name,description,status,created_at,updated_at,deleted_at";
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final CategoryRepository categoryRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter jsonWriter;
+
+    public CategoryExporter(CategoryRepository categoryRepository, EntityManager entityManager,
+            ObjectMapper objectMapper) {
+        this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writerFor(CategoryResponseDTO.class);
+    }
+
+    /**
+     * Exports every category, ordered by ID.
+     *
+     * The output stream is flushed but not closed.
+     *
+     * @param format the output format
+     * @param out    the stream to write to
+     * @return the number of categories written
+     * @throws IOException if writing to the stream fails
+     */
+
+    @Transactional(readOnly = true)
+    public long export(CategoryExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == CategoryExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        long rows = 0;
+        try (Stream<Category> categories = categoryRepository.streamAll()) {
+            Iterator<Category> iterator = categories.iterator();
+            while (iterator.hasNext()) {
+                Category category = iterator.next();
+                CategoryResponseDTO dto = CategoryMapper.toResponseDTO(category);
+
+                // Drop the entity from the persistence context so it can be collected
+                entityManager.detach(category);
+
+                if (format == CategoryExportFormat.CSV) {
+                    writeCsvRow(writer, dto);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer writer, CategoryResponseDTO dto) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writeCsvField(writer, dto.getName());
+        writer.write(',');
+        writeCsvField(writer, dto.getDescription());
+        writer.write(',');
+        writeCsvField(writer, dto.getStatus() != null ? dto.getStatus().name() : null);
+        writer.write(',');
+        writeCsvField(writer, format(dto.getCreatedAt()));
+        writer.write(',');
+        writeCsvField(writer, format(dto.getUpdatedAt()));
+        writer.write(',');
+        writeCsvField(writer, format(dto.getDeletedAt()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * Writes a field, quoting it only when it contains a separator, a quote or
+     * a line break. Null values are written as empty fields.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+
+}
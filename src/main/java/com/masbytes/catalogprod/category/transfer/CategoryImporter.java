@@ -0,0 +1,356 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.dto.CategoryImportChunkDTO;
+import com.masbytes.catalogprod.category.dto.CategoryImportErrorDTO;
+import com.masbytes.catalogprod.category.dto.CategoryImportReportDTO;
+import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.category.mapper.CategoryMapper;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.outbox.CategoryOutboxEventType;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
+import com.masbytes.catalogprod.category.validation.CategoryValidator;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports categories from a CSV file with a header row containing at least
+ * the {@code name} and {@code description} columns (other columns, such as
+ * those of the CSV export, are ignored).
+ *
+ * The file is parsed incrementally and committed in chunks of
+ * {@code catalog.category.import.chunk-size} rows, each in its own
+ * transaction; a failure leaves the chunks already committed in place.
+ * Rows go through the same rules as the API: CategoryValidator, the
+ * normalization of CategoryMapper.toEntity and the entity constraints.
+ * Names that already exist, in the database or earlier in the file, are
+ * skipped as duplicates.
+ * Every imported row is also recorded in the CategoryOutbox, in the
+ * transaction of its chunk, and stamped with the change version of that
+ * transaction.
+ *
+ * On SQL Server the rows of a chunk are written with a single bulk copy;
+ * on other databases (H2) they are persisted as JDBC batches.
+ */
+
+@Component
+public class CategoryImporter {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    // Keeps IN lists well below the 2100 parameter limit of SQL Server
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final CategoryRepository categoryRepository;
+
+    private final CategoryNameIndex categoryNameIndex;
+
+    private final CategoryNameFilter categoryNameFilter;
+
+    private final CategoryStatusSnapshot categoryStatusSnapshot;
+
+    private final CategoryNegativeCache categoryNegativeCache;
+
+    private final CategoryOutbox categoryOutbox;
+
+    private final CategoryChangeVersions categoryChangeVersions;
+
+    private final EntityManager entityManager;
+
+    private final DataSource dataSource;
+
+    private final Validator validator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    private final int chunkSize;
+
+    /**
+     * Whether the database is SQL Server, resolved on the first write
+     */
+    private volatile Boolean bulkCopySupported;
+
+    public CategoryImporter(CategoryRepository categoryRepository, CategoryNameIndex categoryNameIndex,
+            CategoryNameFilter categoryNameFilter, CategoryStatusSnapshot categoryStatusSnapshot,
+            CategoryNegativeCache categoryNegativeCache, CategoryOutbox categoryOutbox,
+            CategoryChangeVersions categoryChangeVersions, EntityManager entityManager, DataSource dataSource, Validator validator, PlatformTransactionManager transactionManager,
+            @Value("${catalog.category.import.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("catalog.category.import.chunk-size must be positive");
+        }
+        this.categoryRepository = categoryRepository;
+        this.categoryNameIndex = categoryNameIndex;
+        this.categoryNameFilter = categoryNameFilter;
+        this.categoryStatusSnapshot = categoryStatusSnapshot;
+        this.categoryNegativeCache = categoryNegativeCache;
+        this.categoryOutbox = categoryOutbox;
+        this.categoryChangeVersions = categoryChangeVersions;
+        this.entityManager = entityManager;
+        this.dataSource = dataSource;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the categories of a UTF-8 CSV stream.
+     *
+     * @param in the CSV content; it is read to the end but not closed
+     * @return the import report, with one entry per chunk
+     * @throws IOException                  if reading the stream fails
+     * @throws CategoryInvalidDataException if the file has no header, the
+     *                                      header lacks a required column or
+     *                                      a quoted field is not terminated
+     */
+
+    public CategoryImportReportDTO importCsv(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        CategoryCsvReader csv = new CategoryCsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new CategoryInvalidDataException("CSV file is empty");
+        }
+        int nameColumn = columnIndex(header, "name");
+        int descriptionColumn = columnIndex(header, "description");
+
+        List<CategoryImportChunkDTO> chunks = new ArrayList<>();
+        List<CategoryImportErrorDTO> errors = new ArrayList<>();
+        List<List<String>> records = new ArrayList<>(chunkSize);
+        List<Long> lines = new ArrayList<>(chunkSize);
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            // Blank lines are not rows
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            records.add(record);
+            lines.add(csv.getRecordLine());
+
+            if (records.size() == chunkSize) {
+                chunks.add(importChunk(chunks.size() + 1, records, lines, nameColumn, descriptionColumn, errors));
+                records.clear();
+                lines.clear();
+            }
+        }
+        if (!records.isEmpty()) {
+            chunks.add(importChunk(chunks.size() + 1, records, lines, nameColumn, descriptionColumn, errors));
+        }
+
+        long rows = 0, imported = 0, duplicates = 0, rejected = 0;
+        for (CategoryImportChunkDTO chunk : chunks) {
+            rows += chunk.getRows();
+            imported += chunk.getImported();
+            duplicates += chunk.getDuplicates();
+            rejected += chunk.getRejected();
+        }
+
+        // Bulk copied rows bypass the change events, so the name index and the
+        // status snapshot are rebuilt once and recorded misses are forgotten
+        if (imported > 0) {
+            categoryNameIndex.rebuild();
+            categoryStatusSnapshot.rebuild();
+            categoryNegativeCache.invalidateAll();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        CategoryImportReportDTO.Method method = bulkCopySupported == null ? null
+                : bulkCopySupported ? CategoryImportReportDTO.Method.BULK_COPY
+                        : CategoryImportReportDTO.Method.BATCH_INSERT;
+        return new CategoryImportReportDTO(method, rows, imported, duplicates, rejected,
+                elapsedNanos / 1_000_000, throughput(rows, elapsedNanos), chunks, errors);
+    }
+
+    /**
+     * Validates, deduplicates and writes one chunk in its own transaction.
+     */
+    private CategoryImportChunkDTO importChunk(int number, List<List<String>> records, List<Long> lines,
+            int nameColumn, int descriptionColumn, List<CategoryImportErrorDTO> errors) {
+        long start = System.nanoTime();
+
+        // Apply the same rules as the API before touching the database
+        List<Category> valid = new ArrayList<>(records.size());
+        int rejected = 0;
+        for (int i = 0; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            CategoryRequestDTO dto = new CategoryRequestDTO(field(record, nameColumn),
+                    field(record, descriptionColumn));
+            try {
+                CategoryValidator.validateCategoryRequest(dto);
+                Category category = CategoryMapper.toEntity(dto);
+                validateConstraints(category);
+                valid.add(category);
+            } catch (CategoryInvalidDataException ex) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new CategoryImportErrorDTO(lines.get(i), dto.getName(), ex.getMessage()));
+                }
+            }
+        }
+
+        List<Category> written = transactionTemplate.execute(status -> {
+            Set<String> takenNames = findExistingNames(valid);
+
+            // Repeated names within the file are duplicates too
+            List<Category> toInsert = new ArrayList<>(valid.size());
+            for (Category category : valid) {
+                if (takenNames.add(category.getNameNormalized())) {
+                    toInsert.add(category);
+                }
+            }
+
+            if (!toInsert.isEmpty()) {
+                long changeVersion = categoryChangeVersions.next();
+                toInsert.forEach(category -> category.setChangeVersion(changeVersion));
+            }
+            write(toInsert);
+
+            // Record the new rows for downstream consumers, read back because
+            // bulk copied rows only get their IDs in the database
+            List<String> names = toInsert.stream().map(Category::getNameNormalized).toList();
+            for (int from = 0; from < names.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, names.size());
+                categoryOutbox.recordAll(CategoryOutboxEventType.CREATED,
+                        categoryRepository.findResponsesByNameNormalizedIn(names.subList(from, to)));
+            }
+            return toInsert;
+        });
+
+        // Written rows bypass the change events, so the name filter learns them here
+        categoryNameFilter.putAll(written.stream().map(Category::getNameNormalized).toList());
+
+        long elapsedNanos = System.nanoTime() - start;
+        int imported = written.size();
+        return new CategoryImportChunkDTO(number, records.size(), imported, valid.size() - imported, rejected,
+                elapsedNanos / 1_000_000, throughput(records.size(), elapsedNanos));
+    }
+
+    private Set<String> findExistingNames(List<Category> categories) {
+        List<String> names = categories.stream().map(Category::getNameNormalized).distinct().toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < names.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, names.size());
+            existing.addAll(categoryRepository.findExistingNames(names.subList(from, to)));
+        }
+        return existing;
+    }
+
+    /**
+     * Writes the categories on the connection of the current transaction.
+     */
+    private void write(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (bulkCopySupported == null) {
+                bulkCopySupported = connection.isWrapperFor(SQLServerConnection.class);
+            }
+            if (bulkCopySupported) {
+                bulkCopy(connection.unwrap(SQLServerConnection.class), categories);
+                return;
+            }
+        } catch (SQLException ex) {
+            DataAccessException translated = exceptionTranslator.translate("Category bulk copy", null, ex);
+            throw translated != null ? translated : new UncategorizedSQLException("Category bulk copy", null, ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        // Sent as JDBC batches of hibernate.jdbc.batch_size rows on flush
+        categoryRepository.saveAll(categories);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void bulkCopy(SQLServerConnection connection, List<Category> categories) throws SQLException {
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setBatchSize(categories.size());
+        options.setBulkCopyTimeout(0);
+        // Keep the status check constraint trusted and run inside our transaction
+        options.setCheckConstraints(true);
+        options.setUseInternalTransaction(false);
+
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection)) {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName("catalog.category");
+            for (int i = 0; i < CategoryBulkData.COLUMNS.length; i++) {
+                bulkCopy.addColumnMapping(i + 1, CategoryBulkData.COLUMNS[i]);
+            }
+            bulkCopy.writeToServer(new CategoryBulkData(categories, LocalDateTime.now()));
+        }
+    }
+
+    private void validateConstraints(Category category) {
+        Set<ConstraintViolation<Category>> violations = validator.validate(category);
+        if (!violations.isEmpty()) {
+            throw new CategoryInvalidDataException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .findFirst()
+                    .orElseThrow());
+        }
+    }
+
+    private static int columnIndex(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheet tools often prepend a byte order mark
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            if (name.equals(column)) {
+                return i;
+            }
+        }
+        throw new CategoryInvalidDataException("CSV header must contain a '" + column + "' column");
+    }
+
+    private static String field(List<String> record, int index) {
+        return index < record.size() ? record.get(index) : null;
+    }
+
+    private static double throughput(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+}
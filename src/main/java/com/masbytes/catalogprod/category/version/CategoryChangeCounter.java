@@ -0,0 +1,52 @@
+package com.masbytes.catalogprod.category.version;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The single row of catalog.category_change_counter: the change version of
+ * the last committed write to the catalog.
+ */
+
+@Entity
+@Table(name = "category_change_counter", schema = "catalog")
+public class CategoryChangeCounter {
+
+    static final Integer ID = 1;
+
+    /**
+     * Always {@link #ID}
+     */
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    /**
+     * Last change version handed out
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // No-args constructor
+    protected CategoryChangeCounter() {
+
+    }
+
+    // Constructor with parameters
+    CategoryChangeCounter(Long version) {
+        this.id = ID;
+        this.version = version;
+    }
+
+    // Getters
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.masbytes.catalogprod.category.version;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryChangeCounterRepository extends JpaRepository<CategoryChangeCounter, Integer> {
+
+    /**
+     * Increments the counter, locking its row until the end of the
+     * transaction.
+     *
+     * @return the number of rows updated: 1, or 0 if the row does not exist
+     *         yet
+     */
+
+    @Modifying
+    @Query("UPDATE CategoryChangeCounter c SET c.version = c.version + 1 WHERE c.id = 1")
+    int increment();
+
+    /**
+     * Returns the value of the counter as seen by the current transaction.
+     *
+     * @return the counter, or an empty Optional if the row does not exist yet
+     */
+
+    @Query("SELECT c.version FROM CategoryChangeCounter c WHERE c.id = 1")
+    Optional<Long> findVersion();
+
+}
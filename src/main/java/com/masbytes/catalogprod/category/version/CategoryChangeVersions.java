@@ -0,0 +1,81 @@
+package com.masbytes.catalogprod.category.version;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out change versions that increase in commit order.
+ *
+ * Every transaction that writes categories takes one version, before its
+ * first write, by incrementing the single row of
+ * catalog.category_change_counter; the rows it writes (change_version) and
+ * the outbox events it records are stamped with it. The row lock on the
+ * counter is held until commit, so versions are handed out one transaction
+ * at a time: once version v is visible, every version below it has committed
+ * or rolled back. Readers can therefore move past v without ever skipping a
+ * change that commits later, whatever the clocks and the commit durations.
+ *
+ * The price is that category writes are serialized on that row, which a
+ * catalog written a few times per second does not notice.
+ */
+
+@Component
+public class CategoryChangeVersions {
+
+    private final CategoryChangeCounterRepository counterRepository;
+
+    public CategoryChangeVersions(CategoryChangeCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    /**
+     * Returns the change version of the current transaction, taking the next
+     * one on the first call. Must be called before the transaction writes
+     * any category, so every writer locks the counter first.
+     *
+     * @return the change version of the current transaction
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next() {
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        long version;
+        if (counterRepository.increment() == 0) {
+            // First write to a database created by Hibernate; the SQL Server
+            // migration seeds the row
+            counterRepository.saveAndFlush(new CategoryChangeCounter(1L));
+            version = 1L;
+        } else {
+            version = counterRepository.findVersion().orElseThrow();
+        }
+
+        TransactionSynchronizationManager.bindResource(this, version);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CategoryChangeVersions.this);
+            }
+        });
+        return version;
+    }
+
+    /**
+     * Returns the last committed change version: every change up to it is
+     * visible.
+     *
+     * @return the last committed version, or 0 before the first write
+     */
+
+    @Transactional(readOnly = true)
+    public long current() {
+        return counterRepository.findVersion().orElse(0L);
+    }
+
+}
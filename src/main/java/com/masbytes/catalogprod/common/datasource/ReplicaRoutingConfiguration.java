@@ -0,0 +1,67 @@
+package com.masbytes.catalogprod.common.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Read replica support, enabled by setting
+ * {@code catalog.datasource.replica.url}.
+ *
+ * The primary pool is built from the usual {@code spring.datasource.*}
+ * properties and the replica pool from {@code catalog.datasource.replica.*}
+ * (url, username, password, driver-class-name and hikari.*), with read-only
+ * connections. Both are exposed through a single routing data source, so
+ * repositories and transactions are unchanged: methods annotated with
+ * {@code @Transactional(readOnly = true)} read from the replica, everything
+ * else goes to the primary. Loads that fill in-process caches and indexes
+ * are pinned to the primary (see ReplicaRoutingContext).
+ */
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "catalog.datasource.replica", name = "url")
+public class ReplicaRoutingConfiguration {
+
+    static final String REPLICA_PREFIX = "catalog.datasource.replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties properties = binder.bind(REPLICA_PREFIX, DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException(REPLICA_PREFIX + ".url must be set"));
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        binder.bind(REPLICA_PREFIX + ".hikari", Bindable.ofInstance(dataSource));
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica) {
+        // Defer fetching the connection until the transaction is flagged read-only
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+}
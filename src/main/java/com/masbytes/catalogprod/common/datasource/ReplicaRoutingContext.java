@@ -0,0 +1,81 @@
+package com.masbytes.catalogprod.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread switch that sends read-only transactions to the primary instead
+ * of the replica.
+ *
+ * Set for the duration of a request by the ReadYourWritesFilter, so a client
+ * that has just written reads its own changes before the replica catches up.
+ * Loads that fill shared in-process state (caches, the status snapshot, the
+ * name index and filter) always run on the primary, so a lagging replica
+ * never leaves stale data behind them for every later request.
+ */
+
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * Routes every transaction of the current thread to the primary until
+     * {@link #clear()} is called.
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    /**
+     * @return whether the current thread must read from the primary
+     */
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+    /**
+     * Restores the default routing for the current thread.
+     */
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+
+    /**
+     * Runs the given work with the current thread routed to the primary, then
+     * restores the previous routing.
+     *
+     * Routing is decided when a connection is fetched: the work must open its
+     * transaction, or run before the first statement of the current one.
+     *
+     * @param work the work to run
+     * @return the result of the work
+     */
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        if (isPrimaryForced()) {
+            return work.get();
+        }
+        forcePrimary();
+        try {
+            return work.get();
+        } finally {
+            clear();
+        }
+    }
+
+    /**
+     * Runs the given work with the current thread routed to the primary, then
+     * restores the previous routing.
+     *
+     * @param work the work to run
+     * @see #callOnPrimary(Supplier)
+     */
+    public static void runOnPrimary(Runnable work) {
+        callOnPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+}
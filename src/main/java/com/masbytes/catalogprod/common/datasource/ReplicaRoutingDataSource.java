@@ -0,0 +1,53 @@
+package com.masbytes.catalogprod.common.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends the connections of read-only transactions to the replica and every
+ * other connection (read-write transactions, work outside a transaction) to
+ * the primary.
+ *
+ * The routing decision is taken when the connection is obtained, which
+ * happens before Spring marks the transaction as read-only; wrap this data
+ * source in a LazyConnectionDataSourceProxy so the connection is only
+ * fetched on the first statement.
+ */
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Lookup keys of the target data sources
+     */
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        return currentTarget();
+    }
+
+    /**
+     * @return the data source the current thread would be routed to
+     */
+    public static Target currentTarget() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingContext.isPrimaryForced()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+}
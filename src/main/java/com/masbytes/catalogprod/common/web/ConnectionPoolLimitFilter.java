@@ -0,0 +1,108 @@
+package com.masbytes.catalogprod.common.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masbytes.catalogprod.common.exception.ErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Bounds the number of API requests processed at the same time when requests
+ * run on virtual threads.
+ *
+ * Platform threads are naturally limited by the Tomcat pool, but virtual
+ * threads are not: without this filter every request would be admitted and
+ * queue on the connection pool, holding its memory and timing out there. The
+ * permits default to the Hikari pool size (a request holds one connection at
+ * a time, for each of its transactions); requests that cannot get one within the acquire timeout are
+ * answered with 503 and a Retry-After header.
+ */
+
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+
+    private final long acquireTimeoutNanos;
+
+    private final ObjectMapper objectMapper;
+
+    public ConnectionPoolLimitFilter(
+            @Value("${catalog.concurrency.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+            @Value("${catalog.concurrency.acquire-timeout:PT5S}") Duration acquireTimeout,
+            ObjectMapper objectMapper) {
+        // Fair, so waiting requests are served in arrival order
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            reject(request, response);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return the number of requests that can still be admitted right now
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                "Too many concurrent requests. Please retry later.",
+                request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.masbytes.catalogprod.common.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lets a client read its own writes while the replica catches up.
+ *
+ * Requests that may write (anything but GET, HEAD and OPTIONS) run entirely
+ * on the primary, including the reads made before and after the write. They
+ * also receive a cookie that lives for {@code catalog.datasource.replica.read-your-writes-window};
+ * while the client sends it back, its reads are served by the primary too.
+ * A window of zero disables the cookie. The cookie is stateless, so it keeps
+ * working when the next request lands on another instance.
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "catalog.datasource.replica", name = "url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "catalog-read-primary";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(
+            @Value("${catalog.datasource.replica.read-your-writes-window:PT5S}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+
+        if (write && !window.isZero()) {
+            // Before the chain, as the response may be committed by then
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, "1")
+                    .path("/api/")
+                    .maxAge(Math.max(1, window.toSeconds()))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+
+        if (!write && WebUtils.getCookie(request, COOKIE_NAME) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingContext.forcePrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+-- Local stand-in for a read replica (profile "replica"): a second H2
+-- database whose category table is a read-only link to the primary one,
+-- so reads routed here see the primary's rows without replication lag.
+CREATE SCHEMA IF NOT EXISTS catalog;
+CREATE LINKED TABLE IF NOT EXISTS catalog.category(
+    'org.h2.Driver', 'jdbc:h2:mem:catalog-primary', 'sa', '', 'CATALOG', 'CATEGORY') READONLY;
@@ -0,0 +1,11 @@
+-- Indexes backing CategoryFilterDTO queries on SQL Server.
+-- Hibernate creates the same indexes on embedded databases from the @Table mapping.
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_category_status' AND object_id = OBJECT_ID('catalog.category'))
+    CREATE INDEX idx_category_status ON catalog.category (status);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_category_created_at' AND object_id = OBJECT_ID('catalog.category'))
+    CREATE INDEX idx_category_created_at ON catalog.category (created_at);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_category_status_created_at' AND object_id = OBJECT_ID('catalog.category'))
+    CREATE INDEX idx_category_status_created_at ON catalog.category (status, created_at);
@@ -0,0 +1,52 @@
+-- Moves catalog.category.id from IDENTITY to the catalog.category_seq sequence
+-- used by Hibernate's pooled-lo optimizer (allocationSize = 50).
+--
+-- SQL Server cannot drop the IDENTITY property of a column, so the rows are
+-- moved with ALTER TABLE ... SWITCH into a table without it. The switch is a
+-- metadata-only operation: no row is copied and existing ids are preserved.
+-- Constraint names below are the ones this script creates; if your table was
+-- generated by Hibernate, look up the actual primary key and unique constraint
+-- names in sys.key_constraints before running it.
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. Sequence starting after the highest existing id.
+--    INCREMENT BY must match allocationSize in Category.
+DECLARE @start BIGINT = (SELECT ISNULL(MAX(id), 0) + 1 FROM catalog.category WITH (TABLOCKX, HOLDLOCK));
+EXEC ('CREATE SEQUENCE catalog.category_seq AS BIGINT START WITH ' + @start + ' INCREMENT BY 50');
+
+-- 2. Same structure as catalog.category, without IDENTITY.
+CREATE TABLE catalog.category_new (
+    id          BIGINT        NOT NULL,
+    created_at  DATETIME2(6)  NULL,
+    deleted_at  DATETIME2(6)  NULL,
+    status      VARCHAR(255)  NOT NULL,
+    updated_at  DATETIME2(6)  NULL,
+    description VARCHAR(255)  NOT NULL,
+    name        VARCHAR(50)   NOT NULL,
+    CONSTRAINT pk_category_new PRIMARY KEY (id),
+    CONSTRAINT uk_category_new_name UNIQUE (name),
+    CONSTRAINT ck_category_new_status CHECK (status IN ('ACTIVE', 'INACTIVE', 'DELETED'))
+);
+CREATE INDEX idx_category_new_status ON catalog.category_new (status);
+CREATE INDEX idx_category_new_created_at ON catalog.category_new (created_at);
+CREATE INDEX idx_category_new_status_created_at ON catalog.category_new (status, created_at);
+
+-- 3. Move the rows (metadata only) and swap the tables.
+ALTER TABLE catalog.category SWITCH TO catalog.category_new;
+DROP TABLE catalog.category;
+EXEC sp_rename 'catalog.category_new', 'category';
+EXEC sp_rename 'catalog.category.pk_category_new', 'pk_category', 'INDEX';
+EXEC sp_rename 'catalog.category.uk_category_new_name', 'uk_category_name', 'INDEX';
+EXEC sp_rename 'catalog.ck_category_new_status', 'ck_category_status', 'OBJECT';
+EXEC sp_rename 'catalog.category.idx_category_new_status', 'idx_category_status', 'INDEX';
+EXEC sp_rename 'catalog.category.idx_category_new_created_at', 'idx_category_created_at', 'INDEX';
+EXEC sp_rename 'catalog.category.idx_category_new_status_created_at', 'idx_category_status_created_at', 'INDEX';
+
+-- 4. Let inserts that bypass Hibernate (scripts, bulk loads) draw ids too.
+--    pooled-lo never hands out a value consumed this way.
+ALTER TABLE catalog.category
+    ADD CONSTRAINT df_category_id DEFAULT (NEXT VALUE FOR catalog.category_seq) FOR id;
+
+COMMIT TRANSACTION;
@@ -0,0 +1,6 @@
+-- Index answering MAX(updated_at), the catalog version behind the ETag of
+-- category listings, with a single seek instead of a table scan.
+-- Hibernate creates the same index on embedded databases from the @Table mapping.
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_category_updated_at' AND object_id = OBJECT_ID('catalog.category'))
+    CREATE INDEX idx_category_updated_at ON catalog.category (updated_at);
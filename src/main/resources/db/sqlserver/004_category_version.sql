@@ -0,0 +1,6 @@
+-- Adds the optimistic locking column mapped by @Version in Category.
+-- Existing rows, and rows bulk-loaded without the column, start at version 0.
+
+IF COL_LENGTH('catalog.category', 'version') IS NULL
+    ALTER TABLE catalog.category
+        ADD version BIGINT NOT NULL CONSTRAINT df_category_version DEFAULT 0;
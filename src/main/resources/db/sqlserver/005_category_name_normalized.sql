@@ -0,0 +1,36 @@
+-- Adds catalog.category.name_normalized, filled by CategoryNames.normalize on
+-- every write, and moves name uniqueness from name to it.
+--
+-- Existing rows are backfilled in T-SQL: trimmed, upper-cased and with inner
+-- runs of spaces collapsed. Unicode NFC composition cannot be done here; rows
+-- written through the API are already composed. The script stops before
+-- creating the unique index if two existing names collide once normalized.
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. Column, nullable until it is backfilled.
+IF COL_LENGTH('catalog.category', 'name_normalized') IS NULL
+    ALTER TABLE catalog.category ADD name_normalized VARCHAR(50) NULL;
+GO
+
+UPDATE catalog.category SET name_normalized = UPPER(LTRIM(RTRIM(name)));
+WHILE EXISTS (SELECT 1 FROM catalog.category WHERE name_normalized LIKE '%  %')
+    UPDATE catalog.category SET name_normalized = REPLACE(name_normalized, '  ', ' ')
+    WHERE name_normalized LIKE '%  %';
+
+-- 2. Abort on collisions; they must be renamed by hand first.
+IF EXISTS (SELECT name_normalized FROM catalog.category GROUP BY name_normalized HAVING COUNT(*) > 1)
+BEGIN
+    ROLLBACK TRANSACTION;
+    THROW 50001, 'Duplicate normalized category names; see GROUP BY name_normalized HAVING COUNT(*) > 1', 1;
+END;
+
+ALTER TABLE catalog.category ALTER COLUMN name_normalized VARCHAR(50) NOT NULL;
+
+-- 3. Uniqueness on the normalized form; name keeps a plain index for sorting.
+CREATE UNIQUE INDEX uk_category_name_normalized ON catalog.category (name_normalized);
+ALTER TABLE catalog.category DROP CONSTRAINT uk_category_name;
+CREATE INDEX idx_category_name ON catalog.category (name);
+
+COMMIT TRANSACTION;
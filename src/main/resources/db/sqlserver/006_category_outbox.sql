@@ -0,0 +1,34 @@
+-- Adds the transactional outbox of category changes: catalog.category_outbox,
+-- written in the same transaction as each change and drained by
+-- CategoryOutboxRelay, and catalog.category_outbox_offset, the last event
+-- delivered to each consumer.
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. Event IDs. INCREMENT BY must match allocationSize in CategoryOutboxEvent.
+CREATE SEQUENCE catalog.category_outbox_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+
+-- 2. Events; the relay reads pending ones (published_at IS NULL) in ID order.
+CREATE TABLE catalog.category_outbox (
+    id                  BIGINT         NOT NULL,
+    category_id         BIGINT         NOT NULL,
+    type                VARCHAR(20)    NOT NULL,
+    category_updated_at DATETIME2(6)   NULL,
+    payload             VARCHAR(2000)  NOT NULL,
+    created_at          DATETIME2(6)   NOT NULL,
+    published_at        DATETIME2(6)   NULL,
+    CONSTRAINT pk_category_outbox PRIMARY KEY (id),
+    CONSTRAINT ck_category_outbox_type CHECK (type IN ('CREATED', 'UPDATED', 'ENABLED', 'DISABLED', 'DELETED'))
+);
+CREATE INDEX idx_category_outbox_published_at ON catalog.category_outbox (published_at, id);
+
+-- 3. Consumer offsets.
+CREATE TABLE catalog.category_outbox_offset (
+    consumer      VARCHAR(100)  NOT NULL,
+    last_event_id BIGINT        NOT NULL,
+    updated_at    DATETIME2(6)  NOT NULL,
+    CONSTRAINT pk_category_outbox_offset PRIMARY KEY (consumer)
+);
+
+COMMIT TRANSACTION;
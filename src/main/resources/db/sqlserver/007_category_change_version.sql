@@ -0,0 +1,29 @@
+-- Adds the commit-ordered change version of the catalog.
+-- catalog.category_change_counter holds a single row that every writing
+-- transaction increments before its first write (CategoryChangeVersions), so
+-- versions are handed out one transaction at a time, in commit order.
+-- catalog.category.change_version records the version of the last write to
+-- each row; existing rows, and rows written by scripts, keep 0. Scripts that
+-- change categories should increment the counter and stamp its new value
+-- in the same transaction, or their changes only reach the listing ETag.
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. The counter, seeded so the application only ever updates it.
+CREATE TABLE catalog.category_change_counter (
+    id      INT     NOT NULL,
+    version BIGINT  NOT NULL,
+    CONSTRAINT pk_category_change_counter PRIMARY KEY (id),
+    CONSTRAINT ck_category_change_counter_id CHECK (id = 1)
+);
+INSERT INTO catalog.category_change_counter (id, version) VALUES (1, 0);
+
+-- 2. The version of each row, read in (change_version, id) order.
+ALTER TABLE catalog.category
+    ADD change_version BIGINT NOT NULL CONSTRAINT df_category_change_version DEFAULT 0;
+GO
+
+CREATE INDEX idx_category_change_version ON catalog.category (change_version, id);
+
+COMMIT TRANSACTION;
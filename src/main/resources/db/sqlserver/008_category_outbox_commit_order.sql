@@ -0,0 +1,26 @@
+-- Drains the outbox in commit order and stores payloads as Unicode.
+-- Events get the change version of the transaction that wrote them (see 007)
+-- and the relay reads them by (change_version, id): event IDs are drawn in
+-- blocks of 50 per instance and do not order events across transactions.
+-- Offsets record the (change version, event ID) of the last delivered event.
+-- Pending events written before this script keep change version 0 and are
+-- delivered first.
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. Commit order of the events.
+ALTER TABLE catalog.category_outbox
+    ADD change_version BIGINT NOT NULL CONSTRAINT df_category_outbox_change_version DEFAULT 0;
+ALTER TABLE catalog.category_outbox_offset
+    ADD last_change_version BIGINT NOT NULL CONSTRAINT df_category_outbox_offset_change_version DEFAULT 0;
+GO
+
+DROP INDEX idx_category_outbox_published_at ON catalog.category_outbox;
+CREATE INDEX idx_category_outbox_published_at ON catalog.category_outbox (published_at, change_version, id);
+
+-- 2. Category names and descriptions are not limited to the code page of the
+--    database collation.
+ALTER TABLE catalog.category_outbox ALTER COLUMN payload NVARCHAR(2000) NOT NULL;
+
+COMMIT TRANSACTION;
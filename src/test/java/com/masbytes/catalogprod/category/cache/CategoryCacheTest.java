@@ -0,0 +1,83 @@
+package com.masbytes.catalogprod.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.event.CategoryStatusChangedEvent;
+import com.masbytes.catalogprod.enums.Status;
+
+public class CategoryCacheTest {
+
+    private final CategoryCache categoryCache = new CategoryCache(100, Duration.ofMinutes(5));
+
+    @Test
+    void putShouldIndexCategoryByIdAndName() {
+        CategoryResponseDTO dto = new CategoryResponseDTO(1L, "TECH", "TECHNOLOGY", null, null, null, Status.ACTIVE);
+
+        categoryCache.put(dto);
+
+        assertEquals(dto, categoryCache.getById(1L).orElseThrow());
+        assertEquals(dto, categoryCache.getByName("TECH").orElseThrow());
+        assertEquals(2, categoryCache.stats().hitCount());
+    }
+
+    @Test
+    void changeEventShouldEvictBothIndexesAfterRename() {
+        categoryCache.put(new CategoryResponseDTO(1L, "TECH", "TECHNOLOGY", null, null, null, Status.ACTIVE));
+
+        categoryCache.onCategoryChanged(new CategoryChangedEvent(1L, "TECH", "GADGETS"));
+
+        assertTrue(categoryCache.getById(1L).isEmpty());
+        assertTrue(categoryCache.getByName("TECH").isEmpty());
+        assertTrue(categoryCache.getByName("GADGETS").isEmpty());
+        assertEquals(3, categoryCache.stats().missCount());
+    }
+
+    @Test
+    void putShouldSkipCategoryReadBeforeAnEviction() {
+        long generation = categoryCache.generation();
+
+        // The category is updated while the lookup query is running
+        categoryCache.onCategoryChanged(new CategoryChangedEvent(6L, "TECH", "TECH"));
+        categoryCache.put(new CategoryResponseDTO(6L, "TECH", "OLD DESCRIPTION", null, null, null, Status.ACTIVE),
+                generation);
+
+        assertTrue(categoryCache.getById(6L).isEmpty());
+        assertTrue(categoryCache.getByName("TECH").isEmpty());
+
+        CategoryResponseDTO fresh = new CategoryResponseDTO(6L, "TECH", "NEW DESCRIPTION", null, null, null,
+                Status.ACTIVE);
+        categoryCache.put(fresh, categoryCache.generation());
+        assertEquals(fresh, categoryCache.getById(6L).orElseThrow());
+    }
+
+    @Test
+    void evictByIdShouldAlsoDropTheCachedName() {
+        categoryCache.put(new CategoryResponseDTO(2L, "FOOD", "FOOD AND DRINKS", null, null, null, Status.ACTIVE));
+
+        categoryCache.evict(2L);
+
+        assertTrue(categoryCache.getByName("FOOD").isEmpty());
+    }
+
+    @Test
+    void statusChangeEventShouldEvictEveryListedCategory() {
+        categoryCache.put(new CategoryResponseDTO(3L, "PETS", "PET SUPPLIES", null, null, null, Status.ACTIVE));
+        categoryCache.put(new CategoryResponseDTO(4L, "TOYS", "TOYS AND GAMES", null, null, null, Status.ACTIVE));
+        categoryCache.put(new CategoryResponseDTO(5L, "ART", "ART SUPPLIES", null, null, null, Status.ACTIVE));
+
+        categoryCache.onCategoryStatusChanged(new CategoryStatusChangedEvent(List.of(3L, 4L)));
+
+        assertTrue(categoryCache.getByName("PETS").isEmpty());
+        assertTrue(categoryCache.getById(4L).isEmpty());
+        assertTrue(categoryCache.getById(5L).isPresent());
+    }
+
+}
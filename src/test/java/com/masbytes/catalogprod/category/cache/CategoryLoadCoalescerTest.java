@@ -0,0 +1,146 @@
+package com.masbytes.catalogprod.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.enums.Status;
+
+public class CategoryLoadCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private final CategoryLoadCoalescer coalescer = new CategoryLoadCoalescer(16);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShouldShareOneLoad() throws Exception {
+        CategoryResponseDTO dto = new CategoryResponseDTO(1L, "TECH", "TECHNOLOGY", null, null, null, Status.ACTIVE);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<CategoryResponseDTO>> results = submit(() -> coalescer.loadById(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return dto;
+        }));
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<CategoryResponseDTO> result : results) {
+            assertSame(dto, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void concurrentMissesShouldAllReceiveTheLoadException() throws Exception {
+        CategoryNotFoundException notFound = new CategoryNotFoundException("Category not found with name: GHOST");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<CategoryResponseDTO>> results = submit(() -> coalescer.loadByName("GHOST", () -> {
+            await(release);
+            throw notFound;
+        }));
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<CategoryResponseDTO> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(notFound, ex.getCause());
+        }
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void changeEventShouldLetLaterCallersStartAFreshLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CategoryResponseDTO stale = new CategoryResponseDTO(2L, "FOOD", "OLD", null, null, null, Status.ACTIVE);
+        CategoryResponseDTO fresh = new CategoryResponseDTO(2L, "FOOD", "NEW", null, null, null, Status.ACTIVE);
+
+        Future<CategoryResponseDTO> first = executor.submit(() -> coalescer.loadById(2L, () -> {
+            await(release);
+            return stale;
+        }));
+        while (coalescer.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        coalescer.onCategoryChanged(new CategoryChangedEvent(2L, "FOOD", "FOOD"));
+
+        assertSame(fresh, coalescer.loadById(2L, () -> fresh));
+        release.countDown();
+        assertSame(stale, first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalescer.coalescedWaiters());
+    }
+
+    @Test
+    void shouldLoadWithoutCoalescingWhenTooManyLoadsAreInFlight() throws Exception {
+        CategoryLoadCoalescer bounded = new CategoryLoadCoalescer(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<CategoryResponseDTO> blocked = executor.submit(() -> bounded.loadById(3L, () -> {
+            await(release);
+            return null;
+        }));
+        while (bounded.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        CategoryResponseDTO dto = new CategoryResponseDTO(4L, "PETS", "PET SUPPLIES", null, null, null, Status.ACTIVE);
+        assertSame(dto, bounded.loadById(4L, () -> dto));
+        assertEquals(1, bounded.inFlight());
+
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    private List<Future<CategoryResponseDTO>> submit(Supplier<CategoryResponseDTO> call) {
+        List<Future<CategoryResponseDTO>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call::get));
+        }
+        return results;
+    }
+
+    private void awaitWaiters(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.coalescedWaiters() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, coalescer.coalescedWaiters());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.masbytes.catalogprod.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.repository.CategoryChange;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.enums.Status;
+
+public class CategoryNegativeCacheTest {
+
+    private final CategoryNegativeCache negativeCache = new CategoryNegativeCache(null, 100, Duration.ofSeconds(30));
+
+    @Test
+    void changeEventShouldEvictTheCreatedIdAndName() {
+        negativeCache.markMissingId(7L, negativeCache.generation());
+        negativeCache.markMissingName("TECH", negativeCache.generation());
+        negativeCache.markMissingName("FOOD", negativeCache.generation());
+
+        negativeCache.onCategoryChanged(new CategoryChangedEvent(7L, null, "TECH"));
+
+        assertFalse(negativeCache.isMissingId(7L));
+        assertFalse(negativeCache.isMissingName("TECH"));
+        assertTrue(negativeCache.isMissingName("FOOD"));
+        assertEquals(1, negativeCache.stats().hitCount());
+    }
+
+    @Test
+    void missReadBeforeAChangeCommittedShouldNotBeRecorded() {
+        long generation = negativeCache.generation();
+
+        // The category is created while the lookup query is running
+        negativeCache.onCategoryChanged(new CategoryChangedEvent(8L, null, "PETS"));
+        negativeCache.markMissingName("PETS", generation);
+
+        assertFalse(negativeCache.isMissingName("PETS"));
+    }
+
+    @Test
+    void invalidateAllShouldForgetEveryMiss() {
+        negativeCache.markMissingId(1L, negativeCache.generation());
+
+        negativeCache.invalidateAll();
+
+        assertFalse(negativeCache.isMissingId(1L));
+    }
+
+    @Test
+    void refreshShouldEvictCategoriesCreatedOnOtherInstances() {
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        CategoryNegativeCache refreshed = new CategoryNegativeCache(categoryRepository, 100, Duration.ofSeconds(30));
+        when(categoryRepository.findLastChangeVersion()).thenReturn(5L);
+        refreshed.refresh();
+        refreshed.markMissingId(9L, refreshed.generation());
+        refreshed.markMissingName("GARDEN", refreshed.generation());
+        refreshed.markMissingName("FOOD", refreshed.generation());
+
+        // Created by another instance, so no event reached this one
+        when(categoryRepository.findChangesAfter(5L, Long.MAX_VALUE, Limit.of(1000))).thenReturn(List.of(
+                new CategoryChange(6L, "GARDEN", new CategoryResponseDTO(9L, "Garden", "GARDEN TOOLS", null, null,
+                        null, Status.ACTIVE))));
+        refreshed.refresh();
+
+        assertFalse(refreshed.isMissingId(9L));
+        assertFalse(refreshed.isMissingName("GARDEN"));
+        assertTrue(refreshed.isMissingName("FOOD"));
+    }
+
+}
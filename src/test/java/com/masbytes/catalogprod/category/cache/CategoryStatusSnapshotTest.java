@@ -0,0 +1,109 @@
+package com.masbytes.catalogprod.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.event.CategoryStatusChangedEvent;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.enums.Status;
+
+@DataJpaTest
+@Import(CategoryStatusSnapshot.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class CategoryStatusSnapshotTest {
+
+    @Autowired
+    private CategoryStatusSnapshot categoryStatusSnapshot;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void rebuildShouldPartitionTheCatalogAndSerializeEachStatus() throws Exception {
+        Long books = categoryRepository.save(new Category("BOOKS", "BOOKS AND MAGAZINES")).getId();
+        Long toys = categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")).getId();
+        categoryRepository.flush();
+        categoryRepository.updateStatus(toys, Set.of(Status.ACTIVE), Status.INACTIVE, LocalDateTime.now(), null, 1L);
+
+        categoryStatusSnapshot.rebuild();
+
+        CategoryStatusView active = categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow();
+        assertEquals(List.of(books), active.categories().stream().map(CategoryResponseDTO::getId).toList());
+        assertArrayEquals(objectMapper.writeValueAsBytes(active.categories()), active.json());
+        assertEquals(List.of(toys), categoryStatusSnapshot.view(Status.INACTIVE).orElseThrow().categories()
+                .stream().map(CategoryResponseDTO::getId).toList());
+        assertEquals(List.of(), categoryStatusSnapshot.view(Status.DELETED).orElseThrow().categories());
+    }
+
+    @Test
+    void changesShouldOnlyRebuildTheStatusesTheyTouch() {
+        Long books = categoryRepository.save(new Category("BOOKS", "BOOKS AND MAGAZINES")).getId();
+        Long toys = categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")).getId();
+        categoryRepository.flush();
+        categoryStatusSnapshot.rebuild();
+        CategoryStatusView active = categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow();
+        CategoryStatusView deleted = categoryStatusSnapshot.view(Status.DELETED).orElseThrow();
+
+        categoryRepository.updateStatus(books, Set.of(Status.ACTIVE), Status.INACTIVE, LocalDateTime.now(), null, 1L);
+        categoryStatusSnapshot.onCategoryStatusChanged(new CategoryStatusChangedEvent(List.of(books)));
+
+        CategoryStatusView activeAfter = categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow();
+        assertEquals(List.of(toys), activeAfter.categories().stream().map(CategoryResponseDTO::getId).toList());
+        assertNotEquals(active.etag(), activeAfter.etag());
+        assertEquals(List.of(books), categoryStatusSnapshot.view(Status.INACTIVE).orElseThrow().categories()
+                .stream().map(CategoryResponseDTO::getId).toList());
+        assertSame(deleted, categoryStatusSnapshot.view(Status.DELETED).orElseThrow());
+
+        Long garden = categoryRepository.saveAndFlush(new Category("GARDEN", "GARDEN TOOLS")).getId();
+        categoryStatusSnapshot.onCategoryChanged(new CategoryChangedEvent(garden, null, "GARDEN"));
+
+        assertEquals(List.of(toys, garden), categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow().categories()
+                .stream().map(CategoryResponseDTO::getId).toList());
+    }
+
+    @Test
+    void refreshShouldApplyChangesCommittedOnOtherInstances() throws Exception {
+        Long books = categoryRepository.save(new Category("BOOKS", "BOOKS AND MAGAZINES")).getId();
+        Long toys = categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")).getId();
+        Long music = categoryRepository.save(new Category("MUSIC", "MUSIC AND INSTRUMENTS")).getId();
+        categoryRepository.flush();
+        categoryStatusSnapshot.rebuild();
+        CategoryStatusView active = categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow();
+
+        // Written by another instance: no event reaches this one
+        categoryRepository.updateStatus(toys, Set.of(Status.ACTIVE), Status.INACTIVE, LocalDateTime.now(), null, 1L);
+        categoryStatusSnapshot.refresh();
+
+        CategoryStatusView activeAfter = categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow();
+        assertEquals(List.of(books, music), activeAfter.categories().stream().map(CategoryResponseDTO::getId).toList());
+        assertArrayEquals(objectMapper.writeValueAsBytes(activeAfter.categories()), activeAfter.json());
+        assertNotEquals(active.etag(), activeAfter.etag());
+        assertEquals(List.of(toys), categoryStatusSnapshot.view(Status.INACTIVE).orElseThrow().categories()
+                .stream().map(CategoryResponseDTO::getId).toList());
+
+        // Already applied changes are not read again
+        categoryStatusSnapshot.refresh();
+        assertSame(activeAfter, categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow());
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.masbytes.catalogprod.category.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.cache.CategoryStatusView;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+import com.masbytes.catalogprod.category.service.CategoryService;
+import com.masbytes.catalogprod.category.transfer.CategoryExporter;
+import com.masbytes.catalogprod.category.transfer.CategoryImporter;
+import com.masbytes.catalogprod.enums.Status;
+
+public class CategoryControllerConditionalGetTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 5, 1, 10, 30, 15, 123_456_000);
+
+    private CategoryService categoryService;
+
+    private CategoryStatusSnapshot categoryStatusSnapshot;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        categoryService = mock(CategoryService.class);
+        categoryStatusSnapshot = mock(CategoryStatusSnapshot.class);
+        CategoryController controller = new CategoryController(categoryService, mock(CategoryExporter.class),
+                mock(CategoryImporter.class), categoryStatusSnapshot, Duration.ofSeconds(30), Duration.ZERO);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void shouldReturnTheCategoryWithETagAndCacheControl() throws Exception {
+        when(categoryService.getCategoryById(1L)).thenReturn(category());
+
+        mockMvc.perform(get("/api/v1/categories/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                .andExpect(content().string(containsString("\"name\":\"BOOKS\"")));
+
+        verify(categoryService, never()).getCategoryVersion(any());
+    }
+
+    @Test
+    void shouldAnswer304FromTheVersionWithoutLoadingTheCategory() throws Exception {
+        when(categoryService.getCategoryVersion(1L)).thenReturn(new CategoryVersion(1L, UPDATED_AT));
+
+        mockMvc.perform(get("/api/v1/categories/1").header(HttpHeaders.IF_NONE_MATCH, etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, etag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                .andExpect(content().string(""));
+
+        verify(categoryService, never()).getCategoryById(any());
+    }
+
+    @Test
+    void shouldReturnTheCategoryWhenTheETagIsStale() throws Exception {
+        when(categoryService.getCategoryVersion(1L)).thenReturn(new CategoryVersion(1L, UPDATED_AT));
+        when(categoryService.getCategoryById(1L)).thenReturn(category());
+
+        mockMvc.perform(get("/api/v1/categories/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag()));
+    }
+
+    @Test
+    void shouldAnswer304ForListingsWhileTheCatalogIsUnchanged() throws Exception {
+        when(categoryService.getCatalogVersion()).thenReturn(new CategoryCatalogVersion(7L, 50L, UPDATED_AT));
+        when(categoryService.getAllCategories(isNull(), anyInt(), any(), any(), any()))
+                .thenReturn(new CategoryCursorPageDTO(List.of(category()), null, false));
+
+        String etag = mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // A change committed after a later-stamped one leaves the ID and the date alone
+        when(categoryService.getCatalogVersion()).thenReturn(new CategoryCatalogVersion(8L, 50L, UPDATED_AT));
+
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldWriteThePreSerializedStatusListingAndAnswer304FromItsETag() throws Exception {
+        byte[] json = "[{\"id\":1,\"name\":\"BOOKS\"}]".getBytes(StandardCharsets.UTF_8);
+        when(categoryStatusSnapshot.view(Status.ACTIVE))
+                .thenReturn(Optional.of(new CategoryStatusView(List.of(category()), json, "\"s0-1\"")));
+
+        mockMvc.perform(get("/api/v1/categories/status/ACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"s0-1\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(json));
+
+        mockMvc.perform(get("/api/v1/categories/status/ACTIVE").header(HttpHeaders.IF_NONE_MATCH, "\"s0-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(categoryService, never()).getCategoryByStatus(any());
+    }
+
+    private static CategoryResponseDTO category() {
+        return new CategoryResponseDTO(1L, "BOOKS", "BOOKS AND MAGAZINES", UPDATED_AT, UPDATED_AT, null,
+                Status.ACTIVE);
+    }
+
+    private static String etag() {
+        return CategoryETags.of(new CategoryVersion(1L, UPDATED_AT));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.masbytes.catalogprod.category.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.masbytes.catalogprod.category.cache.CategoryCache;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+
+/**
+ * Requests go through the whole web stack, interceptors included, against a
+ * replica copied from the primary before each test and left behind by it.
+ */
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:web-lag-primary;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS catalog",
+        "catalog.datasource.replica.url=jdbc:h2:mem:web-lag-replica;DB_CLOSE_DELAY=-1" })
+@AutoConfigureMockMvc
+public class CategoryControllerReplicaLagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+
+    private Long books;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        books = new TransactionTemplate(transactionManager)
+                .execute(status -> categoryRepository.save(new Category("BOOKS", "BOOKS AND MAGAZINES")).getId());
+
+        // The replica catches up with the primary once, then lags behind
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT", String.class).forEach(replica::execute);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        primary.update("DELETE FROM catalog.category");
+        categoryCache.evict(books, "BOOKS");
+    }
+
+    @Test
+    void conditionalGetsShouldFillTheCacheFromThePrimary() throws Exception {
+        primary.update("UPDATE catalog.category SET description = 'BOOKS, MAGAZINES AND COMICS' WHERE id = ?", books);
+
+        // The version is read from the replica first; the cache fill after it
+        // must not reuse that connection
+        mockMvc.perform(get("/api/v1/categories/{id}", books).header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("BOOKS, MAGAZINES AND COMICS"));
+
+        assertEquals("BOOKS, MAGAZINES AND COMICS", categoryCache.getById(books).orElseThrow().getDescription());
+    }
+
+}
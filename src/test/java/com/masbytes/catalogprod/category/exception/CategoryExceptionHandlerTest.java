@@ -0,0 +1,56 @@
+package com.masbytes.catalogprod.category.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.common.exception.ErrorResponse;
+
+public class CategoryExceptionHandlerTest {
+
+    private final CategoryExceptionHandler handler = new CategoryExceptionHandler();
+
+    @Test
+    void notFoundShouldReturnTheErrorResponse() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/categories/name/CAFE");
+        String message = "Category not found with name: CAFE";
+
+        ResponseEntity<ErrorResponse> response = handler.handleCategoryNotFound(
+                CategoryNotFoundException.forName("CAFE"), request);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(404, response.getBody().getStatus());
+        assertEquals("Not Found", response.getBody().getError());
+        assertEquals(message, response.getBody().getMessage());
+        assertEquals("/api/v1/categories/name/CAFE", response.getBody().getPath());
+    }
+
+    @Test
+    void categoryExceptionsShouldNotRecordStackTraces() {
+        IllegalArgumentException cause = new IllegalArgumentException("bad token");
+
+        CategoryInvalidDataException ex = new CategoryInvalidDataException("Invalid pagination cursor", cause);
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(0, CategoryNotFoundException.forId(1L).getStackTrace().length);
+        assertSame(cause, ex.getCause());
+        // The cause keeps its own trace
+        assertEquals(CategoryExceptionHandlerTest.class.getName(), cause.getStackTrace()[0].getClassName());
+    }
+
+    @Test
+    void lookupMessagesShouldBeCompletedWhenRead() {
+        CategoryNotFoundException ex = CategoryNotFoundException.forId(42L);
+
+        assertEquals("Category not found with ID: 42", ex.getMessage());
+        assertSame(ex.getMessage(), ex.getMessage());
+        assertEquals(CategoryNotFoundException.class.getName() + ": Category not found with ID: 42", ex.toString());
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.masbytes.catalogprod.category.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Pageable;
+
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyExistsException;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.service.CategoryService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CategoryServiceTimingAspectTest {
+
+    private SimpleMeterRegistry registry;
+
+    private CategoryService target;
+
+    private CategoryService proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        target = mock(CategoryService.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(CategoryService.class);
+        factory.addAspect(new CategoryServiceTimingAspect(registry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void shouldTimeCallsByMethodAndOutcome() {
+        when(target.getCategoryById(1L)).thenReturn(new CategoryResponseDTO());
+        when(target.getCategoryById(2L)).thenThrow(new CategoryNotFoundException("Category not found"));
+        when(target.createCategory(any())).thenThrow(new CategoryAlreadyExistsException("Category already exists"));
+
+        proxy.getCategoryById(1L);
+        proxy.getCategoryById(1L);
+        assertThrows(CategoryNotFoundException.class, () -> proxy.getCategoryById(2L));
+        assertThrows(CategoryAlreadyExistsException.class, () -> proxy.createCategory(null));
+
+        assertEquals(2, timer("getCategoryById", "success").count());
+        assertEquals(1, timer("getCategoryById", "not-found").count());
+        assertEquals(1, timer("createCategory", "conflict").count());
+    }
+
+    @Test
+    void shouldRegisterEveryOutcomeOnFirstCall() {
+        when(target.searchByPartialName("A")).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> proxy.searchByPartialName("A"));
+
+        for (CategoryOutcome outcome : CategoryOutcome.values()) {
+            assertNotNull(registry.find(CategoryServiceTimingAspect.METRIC_NAME)
+                    .tags("method", "searchByPartialName", "outcome", outcome.getTag())
+                    .timer());
+        }
+        assertEquals(1, timer("searchByPartialName", "error").count());
+    }
+
+    @Test
+    void shouldTagOverloadsWithTheirParameterTypes() {
+        proxy.getAllCategories(Pageable.unpaged(), new CategoryFilterDTO());
+
+        assertEquals(1, timer("getAllCategories(Pageable,CategoryFilterDTO)", "success").count());
+    }
+
+    private Timer timer(String method, String outcome) {
+        return registry.get(CategoryServiceTimingAspect.METRIC_NAME)
+                .tags("method", method, "outcome", outcome)
+                .timer();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.masbytes.catalogprod.category.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class CategoryNamesTest {
+
+    @Test
+    void shouldTrimCollapseWhitespaceAndUpperCase() {
+        assertEquals("HOME AND GARDEN", CategoryNames.normalize("  home \t and\n  garden "));
+        assertNull(CategoryNames.normalize(null));
+    }
+
+    @Test
+    void searchTermsShouldKeepTheirInnerWhitespace() {
+        assertEquals("HOME  AND", CategoryNames.normalizeSearchTerm("  home  and\t"));
+        assertEquals("ELECTR\u00d3N", CategoryNames.normalizeSearchTerm("electro\u0301n"));
+        assertNull(CategoryNames.normalizeSearchTerm(null));
+    }
+
+    @Test
+    void shouldComposeDecomposedAccents() {
+        assertEquals("ELECTR\u00d3NICA", CategoryNames.normalize("electro\u0301nica"));
+    }
+
+    @Test
+    void shouldNotDependOnTheDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("PRINTING", CategoryNames.normalize("printing"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+}
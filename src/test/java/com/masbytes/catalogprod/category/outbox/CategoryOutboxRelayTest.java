@@ -0,0 +1,101 @@
+package com.masbytes.catalogprod.category.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+import com.masbytes.catalogprod.enums.Status;
+
+@DataJpaTest(properties = "catalog.category.outbox.batch-size=2")
+@Import({ CategoryOutbox.class, CategoryOutboxRelay.class, CategoryOutboxConfiguration.class,
+        CategoryChangeVersions.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class CategoryOutboxRelayTest {
+
+    @Autowired
+    private CategoryOutbox categoryOutbox;
+
+    @Autowired
+    private CategoryOutboxRelay categoryOutboxRelay;
+
+    @Autowired
+    private CategoryOutboxRepository categoryOutboxRepository;
+
+    @Autowired
+    private InMemoryCategoryOutboxSink sink;
+
+    @Test
+    void relayShouldDrainTheOutboxInOrderAndAdvanceTheOffset() {
+        sink.clear();
+        LocalDateTime now = LocalDateTime.now();
+        categoryOutbox.record(CategoryOutboxEventType.CREATED, category(1L, Status.ACTIVE, now));
+        categoryOutbox.recordAll(CategoryOutboxEventType.CREATED, List.of(
+                category(2L, Status.ACTIVE, now), category(3L, Status.ACTIVE, now)));
+        categoryOutbox.record(CategoryOutboxEventType.DISABLED, category(1L, Status.INACTIVE, now.plusSeconds(1)));
+        categoryOutbox.record(CategoryOutboxEventType.UPDATED, category(2L, Status.ACTIVE, now.plusSeconds(1)));
+
+        // Five events in batches of two: three batches in one call
+        assertEquals(5, categoryOutboxRelay.relay());
+        assertEquals(0, categoryOutboxRepository.countByPublishedAtIsNull());
+
+        List<CategoryOutboxMessage> messages = sink.messages();
+        assertEquals(List.of(1L, 2L, 3L, 1L, 2L), messages.stream().map(CategoryOutboxMessage::categoryId).toList());
+        assertEquals(List.of(CategoryOutboxEventType.CREATED, CategoryOutboxEventType.CREATED,
+                CategoryOutboxEventType.CREATED, CategoryOutboxEventType.DISABLED, CategoryOutboxEventType.UPDATED),
+                messages.stream().map(CategoryOutboxMessage::type).toList());
+        for (int i = 1; i < messages.size(); i++) {
+            assertTrue(messages.get(i - 1).eventId() < messages.get(i).eventId());
+        }
+        assertTrue(messages.get(3).payload().contains("\"status\":\"INACTIVE\""));
+
+        assertEquals(Map.of(InMemoryCategoryOutboxSink.CONSUMER, messages.get(4).changeVersion()),
+                categoryOutboxRelay.offsets());
+    }
+
+    @Test
+    void relayShouldDeliverInCommitOrderWhateverTheEventIds() {
+        sink.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        // The later transaction drew its event ID from an older block of the sequence
+        categoryOutboxRepository.save(new CategoryOutboxEvent(8L, 1L, CategoryOutboxEventType.DISABLED, now,
+                "{}", now));
+        categoryOutboxRepository.save(new CategoryOutboxEvent(7L, 1L, CategoryOutboxEventType.CREATED, now,
+                "{}", now));
+
+        assertEquals(2, categoryOutboxRelay.relay());
+
+        List<CategoryOutboxMessage> messages = sink.messages();
+        assertEquals(List.of(7L, 8L), messages.stream().map(CategoryOutboxMessage::changeVersion).toList());
+        assertEquals(List.of(CategoryOutboxEventType.CREATED, CategoryOutboxEventType.DISABLED),
+                messages.stream().map(CategoryOutboxMessage::type).toList());
+        assertEquals(Map.of(InMemoryCategoryOutboxSink.CONSUMER, 8L), categoryOutboxRelay.offsets());
+    }
+
+    @Test
+    void relayShouldNotSendPublishedEventsAgain() {
+        sink.clear();
+        categoryOutbox.record(CategoryOutboxEventType.CREATED, category(1L, Status.ACTIVE, LocalDateTime.now()));
+
+        assertEquals(1, categoryOutboxRelay.relay());
+        assertEquals(0, categoryOutboxRelay.relay());
+        assertEquals(1, sink.messages().size());
+    }
+
+    private static CategoryResponseDTO category(Long id, Status status, LocalDateTime updatedAt) {
+        return new CategoryResponseDTO(id, "CATEGORY " + id, "DESCRIPTION " + id, updatedAt, updatedAt, null, status);
+    }
+
+}
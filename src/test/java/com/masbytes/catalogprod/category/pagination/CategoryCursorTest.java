@@ -0,0 +1,61 @@
+package com.masbytes.catalogprod.category.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.enums.Status;
+
+public class CategoryCursorTest {
+
+    @Test
+    void encodedCursorShouldDecodeToTheSamePosition() {
+        CategoryResponseDTO last = new CategoryResponseDTO(7L, "HOME | GARDEN", "HOME AND GARDEN",
+                LocalDateTime.of(2025, 5, 1, 10, 30), null, null, Status.ACTIVE);
+
+        CategoryCursor cursor = CategoryCursor.after(CategorySortKey.NAME, Sort.Direction.DESC, last);
+        CategoryCursor decoded = CategoryCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals("HOME | GARDEN", decoded.lastValue());
+    }
+
+    @Test
+    void createdAtCursorShouldRoundTrip() {
+        CategoryResponseDTO last = new CategoryResponseDTO(3L, "TECH", "TECHNOLOGY",
+                LocalDateTime.of(2025, 5, 1, 10, 30, 15, 123_000_000), null, null, Status.ACTIVE);
+
+        CategoryCursor cursor = CategoryCursor.after(CategorySortKey.CREATED_AT, Sort.Direction.ASC, last);
+
+        assertEquals(cursor, CategoryCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void cursorWithoutAValueShouldRoundTrip() {
+        CategoryResponseDTO last = new CategoryResponseDTO(3L, "TECH", "TECHNOLOGY", null, null, null,
+                Status.ACTIVE);
+
+        CategoryCursor cursor = CategoryCursor.after(CategorySortKey.CREATED_AT, Sort.Direction.DESC, last);
+
+        assertEquals(cursor, CategoryCursor.decode(cursor.encode()));
+        assertNull(CategoryCursor.decode(cursor.encode()).lastValue());
+        // Only nullable keys can lack a value
+        assertThrows(CategoryInvalidDataException.class, () -> CategoryCursor.decode(
+                new CategoryCursor(CategorySortKey.NAME, Sort.Direction.ASC, null, 1L).encode()));
+    }
+
+    @Test
+    void malformedCursorShouldBeRejected() {
+        assertThrows(CategoryInvalidDataException.class, () -> CategoryCursor.decode("not a cursor"));
+        assertThrows(CategoryInvalidDataException.class, () -> CategoryCursor.decode(
+                new CategoryCursor(CategorySortKey.CREATED_AT, Sort.Direction.ASC, "yesterday", 1L).encode()));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.masbytes.catalogprod.category.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CategoryNameFilterTest {
+
+    private final CategoryNameFilter filter = new CategoryNameFilter(null, 0.01, Duration.ofHours(1));
+
+    @Test
+    void everyNameMightExistUntilTheFilterIsLoaded() {
+        assertTrue(filter.mightContain("TOYS"));
+    }
+
+    @Test
+    void loadedAndAddedNamesShouldNeverBeRuledOut() {
+        filter.load(IntStream.range(0, 5000).mapToObj(i -> "CATEGORY " + i), 5000);
+        filter.putAll(List.of("GARDEN"));
+        filter.onCategoryChanged(new CategoryChangedEvent(1L, null, " Jardín  de casa "));
+
+        assertTrue(IntStream.range(0, 5000).allMatch(i -> filter.mightContain("CATEGORY " + i)));
+        assertTrue(filter.mightContain("GARDEN"));
+        assertTrue(filter.mightContain("JARDÍN DE CASA"));
+    }
+
+    @Test
+    void falsePositiveRateShouldStayCloseToTheConfiguredOne() {
+        filter.load(IntStream.range(0, 10_000).mapToObj(i -> "CATEGORY " + i), 10_000);
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("OTHER " + i))
+                .count();
+
+        // Sized for twice the catalog, so well below 1% while half full
+        assertTrue(falsePositives < 1000, "false positives: " + falsePositives);
+        assertTrue(filter.estimatedFalsePositiveRate() < 0.01);
+    }
+
+    @Test
+    void metricsShouldExposeConfigurationAndChecks() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+        filter.load(Stream.of("TOYS"), 1);
+        filter.mightContain("TOYS");
+        filter.mightContain("BOOKS");
+        filter.recordFalsePositive();
+
+        assertEquals(0.01, registry.get("catalog.category.name_filter.false_positive_rate")
+                .tag("kind", "target").gauge().value());
+        assertEquals(3600, registry.get("catalog.category.name_filter.rebuild_interval").gauge().value());
+        assertEquals(1, registry.get("catalog.category.name_filter.rebuilds").functionCounter().count());
+        assertEquals(1, registry.get("catalog.category.name_filter.checks")
+                .tag("result", "maybe-present").functionCounter().count());
+        assertEquals(1, registry.get("catalog.category.name_filter.false_positives").functionCounter().count());
+    }
+
+}
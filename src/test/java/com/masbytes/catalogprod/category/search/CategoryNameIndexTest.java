@@ -0,0 +1,86 @@
+package com.masbytes.catalogprod.category.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
+import com.masbytes.catalogprod.category.repository.CategoryChange;
+import com.masbytes.catalogprod.category.repository.CategoryNameView;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.enums.Status;
+
+public class CategoryNameIndexTest {
+
+    private final CategoryNameIndex index = new CategoryNameIndex(null);
+
+    @Test
+    void searchShouldBeEmptyUntilTheIndexIsLoaded() {
+        assertTrue(index.search("TECH").isEmpty());
+    }
+
+    @Test
+    void searchShouldMatchSubstringsIgnoringCase() {
+        index.load(Stream.of(
+                new CategoryNameView(3L, "HOME APPLIANCES"),
+                new CategoryNameView(1L, "APPLE PRODUCTS"),
+                new CategoryNameView(2L, "PINEAPPLE")));
+
+        assertEquals(List.of(1L, 2L), index.search("apple").orElseThrow());
+        assertEquals(List.of(1L, 2L, 3L), index.search("APPL").orElseThrow());
+        assertEquals(List.of(2L), index.search("NE").orElseThrow());
+        assertEquals(List.of(), index.search("APPLES").orElseThrow());
+    }
+
+    @Test
+    void searchShouldNotMatchNonAdjacentTrigrams() {
+        index.load(Stream.of(new CategoryNameView(1L, "ABCXBCD")));
+
+        assertEquals(List.of(), index.search("ABCD").orElseThrow());
+    }
+
+    @Test
+    void changeEventShouldReindexRenamedCategory() {
+        index.load(Stream.of(new CategoryNameView(1L, "GARDEN")));
+
+        index.onCategoryChanged(new CategoryChangedEvent(1L, "GARDEN", "OUTDOOR"));
+        index.onCategoryChanged(new CategoryChangedEvent(2L, null, "GARDEN TOOLS"));
+
+        assertEquals(List.of(2L), index.search("GARDEN").orElseThrow());
+        assertEquals(List.of(1L), index.search("DOOR").orElseThrow());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void refreshShouldApplyChangesCommittedOnOtherInstances() {
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        CategoryNameIndex refreshed = new CategoryNameIndex(categoryRepository);
+        when(categoryRepository.findLastChangeVersion()).thenReturn(5L);
+        when(categoryRepository.streamAllNames()).thenReturn(Stream.of(new CategoryNameView(1L, "GARDEN")));
+        refreshed.rebuild();
+
+        // Renamed and created by another instance, so no event reached this one
+        when(categoryRepository.findChangesAfter(5L, Long.MAX_VALUE, Limit.of(1000))).thenReturn(List.of(
+                new CategoryChange(6L, "OUTDOOR", category(1L, "OUTDOOR")),
+                new CategoryChange(7L, "GARDEN TOOLS", category(9L, "GARDEN TOOLS"))));
+        when(categoryRepository.findChangesAfter(7L, 9L, Limit.of(1000))).thenReturn(List.of());
+        refreshed.refresh();
+        refreshed.refresh();
+
+        assertEquals(List.of(9L), refreshed.search("GARDEN").orElseThrow());
+        assertEquals(List.of(1L), refreshed.search("DOOR").orElseThrow());
+    }
+
+    private static CategoryResponseDTO category(Long id, String name) {
+        return new CategoryResponseDTO(id, name, name, null, null, null, Status.ACTIVE);
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.masbytes.catalogprod.category.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.service.CategoryService;
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+import com.masbytes.catalogprod.enums.Status;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncCategoryServiceImplTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    private AsyncCategoryServiceImpl asyncService;
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        if (asyncService != null) {
+            asyncService.destroy();
+        }
+    }
+
+    @Test
+    void lookupsShouldRunConcurrently() throws Exception {
+        asyncService = new AsyncCategoryServiceImpl(categoryService, true, 4, 0, Duration.ofSeconds(5));
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CategoryResponseDTO tech = category(1L, "TECH");
+        CategoryResponseDTO food = category(2L, "FOOD");
+        when(categoryService.getCategoryById(1L)).thenAnswer(invocation -> arrive(bothStarted, tech));
+        when(categoryService.getCategoryByName("FOOD")).thenAnswer(invocation -> arrive(bothStarted, food));
+
+        CompletableFuture<CategoryResponseDTO> byId = asyncService.getCategoryById(1L);
+        CompletableFuture<CategoryResponseDTO> byName = asyncService.getCategoryByName("FOOD");
+
+        // Each call only returns once the other has started
+        assertSame(tech, byId.get(5, TimeUnit.SECONDS));
+        assertSame(food, byName.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void serviceExceptionShouldCompleteTheFutureExceptionally() {
+        asyncService = new AsyncCategoryServiceImpl(categoryService, false, 2, 10, Duration.ofSeconds(5));
+        CategoryNotFoundException notFound = new CategoryNotFoundException("Category not found with ID: 9");
+        when(categoryService.getCategoryById(9L)).thenThrow(notFound);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> asyncService.getCategoryById(9L).get(5, TimeUnit.SECONDS));
+
+        assertSame(notFound, ex.getCause());
+    }
+
+    @Test
+    void callShouldTimeOutAfterThePerCallTimeout() throws Exception {
+        asyncService = new AsyncCategoryServiceImpl(categoryService, true, 2, 10, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        when(categoryService.getCategoryById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return category(1L, "TECH");
+        });
+
+        CompletableFuture<CategoryResponseDTO> future = asyncService.withTimeout(Duration.ofMillis(50))
+                .getCategoryById(1L);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        release.countDown();
+    }
+
+    @Test
+    void callsBeyondTheQueueCapacityShouldBeRejected() throws Exception {
+        asyncService = new AsyncCategoryServiceImpl(categoryService, false, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        when(categoryService.getCategoryById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return category(1L, "TECH");
+        });
+
+        CompletableFuture<CategoryResponseDTO> running = asyncService.getCategoryById(1L);
+        CompletableFuture<CategoryResponseDTO> queued = asyncService.getCategoryById(1L);
+        CompletableFuture<CategoryResponseDTO> rejected = asyncService.getCategoryById(1L);
+
+        assertTrue(rejected.isCompletedExceptionally());
+        ExecutionException ex = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+
+        release.countDown();
+        assertEquals(1L, running.get(5, TimeUnit.SECONDS).getId());
+        assertEquals(1L, queued.get(5, TimeUnit.SECONDS).getId());
+    }
+
+    @Test
+    void callShouldKeepReadingFromThePrimaryWhenTheCallerDoes() throws Exception {
+        asyncService = new AsyncCategoryServiceImpl(categoryService, true, 2, 10, Duration.ofSeconds(5));
+        when(categoryService.getCategoryById(1L)).thenAnswer(invocation -> ReplicaRoutingContext.isPrimaryForced()
+                ? category(1L, "PRIMARY")
+                : category(1L, "REPLICA"));
+
+        ReplicaRoutingContext.forcePrimary();
+
+        assertEquals("PRIMARY", asyncService.getCategoryById(1L).get(5, TimeUnit.SECONDS).getName());
+    }
+
+    private static CategoryResponseDTO arrive(CountDownLatch latch, CategoryResponseDTO result)
+            throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Calls did not run concurrently");
+        }
+        return result;
+    }
+
+    private static CategoryResponseDTO category(Long id, String name) {
+        return new CategoryResponseDTO(id, name, name, null, null, null, Status.ACTIVE);
+    }
+
+}
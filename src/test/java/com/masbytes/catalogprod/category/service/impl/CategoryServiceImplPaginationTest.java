@@ -0,0 +1,294 @@
+package com.masbytes.catalogprod.category.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.masbytes.catalogprod.category.cache.CategoryCache;
+import com.masbytes.catalogprod.category.cache.CategoryLoadCoalescer;
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.dto.CategoryChangesDTO;
+import com.masbytes.catalogprod.category.dto.CategoryCursorPageDTO;
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.category.mapper.CategoryMapper;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.pagination.CategorySortKey;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+import com.masbytes.catalogprod.enums.Status;
+
+@DataJpaTest
+@Import({ CategoryServiceImpl.class, CategoryMapper.class, CategoryCache.class, CategoryLoadCoalescer.class,
+        CategoryNegativeCache.class, CategoryStatusSnapshot.class, CategoryNameIndex.class, CategoryNameFilter.class,
+        CategoryOutbox.class, CategoryChangeVersions.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class CategoryServiceImplPaginationTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryServiceImpl categoryService;
+
+    @Autowired
+    private CategoryNameIndex categoryNameIndex;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CategoryStatusSnapshot categoryStatusSnapshot;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // Names deliberately out of ID order
+        for (String name : List.of("PETS", "BOOKS", "TOYS", "FOOD", "GAMES", "MUSIC", "ART")) {
+            categoryRepository.save(new Category(name, "CATEGORY " + name));
+        }
+    }
+
+    @Test
+    void keysetPagesByNameShouldCoverEveryCategoryOnce() {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            CategoryCursorPageDTO page = categoryService.getAllCategories(cursor, 3, CategorySortKey.NAME,
+                    Sort.Direction.ASC, null);
+            page.getContent().forEach(dto -> names.add(dto.getName()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("ART", "BOOKS", "FOOD", "GAMES", "MUSIC", "PETS", "TOYS"), names);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void keysetPagesByCreationDateShouldPlaceCategoriesWithoutOneLast() {
+        categoryRepository.flush();
+        List<Long> undated = List.of(categoryRepository.findByNameNormalized("BOOKS").orElseThrow().getId(),
+                categoryRepository.findByNameNormalized("GAMES").orElseThrow().getId());
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE catalog.category SET created_at = NULL WHERE id IN (:ids)")
+                .setParameter("ids", undated)
+                .executeUpdate();
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<CategoryResponseDTO> categories = new ArrayList<>();
+            String cursor = null;
+            do {
+                // Pages of 2 so one ends on an undated category and the next starts from it
+                CategoryCursorPageDTO page = categoryService.getAllCategories(cursor, 2, CategorySortKey.CREATED_AT,
+                        direction, null);
+                categories.addAll(page.getContent());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            // Last in either direction, in the ID order of the direction
+            assertEquals(7, categories.size());
+            assertEquals(direction.isAscending() ? undated : undated.reversed(),
+                    categories.subList(5, 7).stream().map(CategoryResponseDTO::getId).toList());
+            assertTrue(categories.subList(0, 5).stream().allMatch(category -> category.getCreatedAt() != null));
+        }
+    }
+
+    @Test
+    void keysetPagesByIdDescendingShouldStopAtTheLastPage() {
+        CategoryCursorPageDTO first = categoryService.getAllCategories(null, 4, CategorySortKey.ID,
+                Sort.Direction.DESC, null);
+        CategoryCursorPageDTO second = categoryService.getAllCategories(first.getNextCursor(), 4, null, null, null);
+
+        assertTrue(first.isHasNext());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals(3, second.getContent().size());
+
+        List<Long> ids = new ArrayList<>(first.getContent().stream().map(CategoryResponseDTO::getId).toList());
+        ids.addAll(second.getContent().stream().map(CategoryResponseDTO::getId).toList());
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort((a, b) -> Long.compare(b, a));
+        assertEquals(sorted, ids);
+    }
+
+    @Test
+    void offsetPagingShouldStillReportTotals() {
+        Page<CategoryResponseDTO> page = categoryService.getAllCategories(PageRequest.of(1, 5, Sort.by("name")), null);
+
+        assertEquals(7, page.getTotalElements());
+        assertEquals(List.of("PETS", "TOYS"), page.getContent().stream().map(CategoryResponseDTO::getName).toList());
+    }
+
+    @Test
+    void filterShouldApplyToBothPagingModes() {
+        Category games = categoryRepository.findByNameNormalized("GAMES").orElseThrow();
+        games.setStatus(Status.INACTIVE);
+        categoryRepository.save(games);
+
+        CategoryFilterDTO filter = new CategoryFilterDTO(null, Status.ACTIVE, null, null);
+        CategoryCursorPageDTO keyset = categoryService.getAllCategories(null, 10, CategorySortKey.NAME,
+                Sort.Direction.ASC, filter);
+        Page<CategoryResponseDTO> offset = categoryService.getAllCategories(PageRequest.of(0, 10),
+                new CategoryFilterDTO("g", null, null, null));
+
+        assertEquals(6, keyset.getContent().size());
+        assertFalse(keyset.getContent().stream().anyMatch(dto -> dto.getName().equals("GAMES")));
+        assertEquals(List.of("GAMES"), offset.getContent().stream().map(CategoryResponseDTO::getName).toList());
+    }
+
+    @Test
+    void readPathsShouldNotLoadEntitiesIntoThePersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        categoryNameIndex.rebuild();
+        categoryStatusSnapshot.rebuild();
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        categoryService.getAllCategories(PageRequest.of(0, 5), null);
+        categoryService.getAllCategories(null, 5, CategorySortKey.NAME, Sort.Direction.ASC, null);
+        List<CategoryResponseDTO> active = categoryService.getCategoryByStatus(Status.ACTIVE);
+        List<CategoryResponseDTO> found = categoryService.searchByPartialName("o");
+
+        assertEquals(7, active.size());
+        assertEquals(List.of("BOOKS", "TOYS", "FOOD"),
+                found.stream().map(CategoryResponseDTO::getName).toList());
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    void changeFeedShouldPageByWatermarkAndIncludeTombstones() {
+        List<String> names = new ArrayList<>();
+        String watermark = null;
+        CategoryChangesDTO read;
+        do {
+            read = categoryService.getCategoryChanges(watermark, null, 3);
+            read.getChanges().forEach(dto -> names.add(dto.getName()));
+            watermark = read.getWatermark();
+        } while (read.isHasMore());
+
+        assertEquals(7, names.size());
+        assertEquals(7, names.stream().distinct().count());
+
+        // Nothing new: same watermark, no rows
+        CategoryChangesDTO quiet = categoryService.getCategoryChanges(watermark, null, 3);
+        assertTrue(quiet.getChanges().isEmpty());
+        assertEquals(watermark, quiet.getWatermark());
+
+        Long toys = categoryRepository.findByNameNormalized("TOYS").orElseThrow().getId();
+        Long pets = categoryRepository.findByNameNormalized("PETS").orElseThrow().getId();
+        categoryService.disableCategory(toys);
+        categoryService.deleteCategory(pets);
+
+        // Both changes share the change version of the test transaction, so they come in ID order
+        CategoryChangesDTO changes = categoryService.getCategoryChanges(watermark, null, 3);
+        assertEquals(List.of(pets, toys), changes.getChanges().stream().map(CategoryResponseDTO::getId).toList());
+        assertEquals(Status.DELETED, changes.getChanges().get(0).getStatus());
+        assertNotNull(changes.getChanges().get(0).getDeletedAt());
+        assertEquals(Status.INACTIVE, changes.getChanges().get(1).getStatus());
+        assertFalse(changes.isHasMore());
+    }
+
+    @Test
+    void changeFeedShouldNotSkipAChangeCommittedAfterTheWatermarkWithAnOlderUpdateDate() {
+        CategoryChangesDTO all = categoryService.getCategoryChanges(null, null, 100);
+        Long books = categoryRepository.findByNameNormalized("BOOKS").orElseThrow().getId();
+
+        // A transaction that stamped its update date long ago commits only now
+        long changeVersion = categoryRepository.findCatalogVersion().lastChangeVersion() + 1;
+        categoryRepository.updateStatus(books, Set.of(Status.ACTIVE), Status.INACTIVE,
+                LocalDateTime.now().minusHours(1), null, changeVersion);
+
+        CategoryChangesDTO changes = categoryService.getCategoryChanges(all.getWatermark(), null, 100);
+        assertEquals(List.of(books), changes.getChanges().stream().map(CategoryResponseDTO::getId).toList());
+    }
+
+    @Test
+    void changeFeedSinceADateShouldIncludeCategoriesWithoutAnUpdateDate() {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE catalog.category SET updated_at = NULL WHERE name_normalized = 'ART'")
+                .executeUpdate();
+        entityManager.clear();
+
+        CategoryChangesDTO changes = categoryService.getCategoryChanges(null, LocalDateTime.now().minusMinutes(1),
+                100);
+
+        assertTrue(changes.getChanges().stream().anyMatch(dto -> dto.getName().equals("ART")));
+        assertEquals(7, changes.getChanges().size());
+    }
+
+    @Test
+    void changeFeedShouldRejectTamperedWatermarks() {
+        assertThrows(CategoryInvalidDataException.class,
+                () -> categoryService.getCategoryChanges("bm90LWEtd2F0ZXJtYXJr", null, 10));
+        assertThrows(CategoryInvalidDataException.class,
+                () -> categoryService.getCategoryChanges(null, null, 1001));
+    }
+
+    @Test
+    void containsProjectionShouldMatchLikeWildcardsLiterally() {
+        categoryRepository.save(new Category("50%_OFF", "CATEGORY 50%_OFF"));
+
+        List<CategoryResponseDTO> found = categoryRepository.findResponsesByNameContaining("%_");
+
+        assertEquals(List.of("50%_OFF"), found.stream().map(CategoryResponseDTO::getName).toList());
+    }
+
+    @Test
+    void normalizedNamesShouldBeUniqueInTheDatabase() {
+        categoryRepository.saveAndFlush(new Category("HOME AND GARDEN", "CATEGORY HOME AND GARDEN"));
+
+        // Bypasses the service check: only the unique index on name_normalized stops it
+        Category sameName = new Category("home  and garden", "ANOTHER CATEGORY");
+
+        assertThrows(DataIntegrityViolationException.class, () -> categoryRepository.saveAndFlush(sameName));
+    }
+
+    @Test
+    void namesWrittenBeforeNormalizationShouldBeLookedUpByTheirNormalizedName() {
+        // As left by the backfill: only name_normalized is normalized
+        Long garden = categoryRepository.saveAndFlush(new Category("Garden  Tools", "CATEGORY GARDEN TOOLS")).getId();
+        categoryNameIndex.rebuild();
+
+        assertEquals(garden, categoryService.getCategoryByName("garden tools").getId());
+        assertEquals(garden, categoryCache.getByName("GARDEN TOOLS").orElseThrow().getId());
+        assertEquals(List.of(garden), categoryService.searchByPartialName(" en to ").stream()
+                .map(CategoryResponseDTO::getId).toList());
+        // Search text keeps its inner spaces, as typed
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.searchByPartialName("en  to"));
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.masbytes.catalogprod.category.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.masbytes.catalogprod.category.cache.CategoryCache;
+import com.masbytes.catalogprod.category.cache.CategoryLoadCoalescer;
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO.Outcome;
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsActiveException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsInactiveException;
+import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
+import com.masbytes.catalogprod.category.mapper.CategoryMapper;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+import com.masbytes.catalogprod.enums.Status;
+
+@DataJpaTest
+@Import({ CategoryServiceImpl.class, CategoryMapper.class, CategoryCache.class, CategoryLoadCoalescer.class,
+        CategoryNegativeCache.class, CategoryStatusSnapshot.class, CategoryNameIndex.class, CategoryNameFilter.class,
+        CategoryOutbox.class, CategoryChangeVersions.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class CategoryServiceImplStatusTransitionTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryServiceImpl categoryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        id = categoryRepository.save(new Category("BOOKS", "BOOKS AND MAGAZINES")).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void disableShouldUpdateTheRowWithoutLoadingIt() {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        CategoryResponseDTO disabled = categoryService.disableCategory(id);
+
+        assertEquals(Status.INACTIVE, disabled.getStatus());
+        assertNotNull(disabled.getUpdatedAt());
+        // Only the outbox event is managed; the category was never loaded
+        assertTrue(session.getStatistics().getEntityKeys().stream()
+                .map(EntityKey.class::cast)
+                .noneMatch(key -> key.getEntityName().equals(Category.class.getName())));
+
+        Category stored = entityManager.find(Category.class, id);
+        assertEquals(Status.INACTIVE, stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void transitionsShouldBeRejectedAccordingToTheCurrentStatus() {
+        assertThrows(CategoryAlreadyIsActiveException.class, () -> categoryService.enableCategory(id));
+
+        categoryService.disableCategory(id);
+        assertThrows(CategoryAlreadyIsInactiveException.class, () -> categoryService.disableCategory(id));
+        assertEquals(Status.ACTIVE, categoryService.enableCategory(id).getStatus());
+
+        CategoryResponseDTO deleted = categoryService.deleteCategory(id);
+        assertEquals(Status.DELETED, deleted.getStatus());
+        assertNotNull(deleted.getDeletedAt());
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.deleteCategory(id));
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.enableCategory(id));
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.disableCategory(id + 1000));
+    }
+
+    @Test
+    void enableShouldLeaveTheDeletionDateEmpty() {
+        categoryService.disableCategory(id);
+
+        assertNull(categoryService.enableCategory(id).getDeletedAt());
+    }
+
+    @Test
+    void staleEntityUpdatesShouldFailAfterATransition() {
+        Category stale = entityManager.find(Category.class, id);
+        entityManager.detach(stale);
+
+        categoryService.disableCategory(id);
+        stale.setDescription("A CONCURRENT EDIT");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> categoryRepository.save(stale));
+    }
+
+    @Test
+    void bulkDisableShouldReportAnOutcomePerIdAcrossChunks() {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            categories.add(new Category(String.format("CAT%05d", i), "CATEGORY " + i));
+        }
+        List<Long> ids = new ArrayList<>(categoryRepository.saveAll(categories).stream()
+                .map(Category::getId)
+                .toList());
+        categoryService.disableCategory(ids.get(1));
+        categoryService.deleteCategory(ids.get(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        ids.add(ids.get(0));
+        ids.add(-1L);
+        List<CategoryBulkResultDTO> results = categoryService.disableCategories(ids);
+
+        assertEquals(ids.size(), results.size());
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Status.INACTIVE, results.get(0).getCategory().getStatus());
+        assertEquals(Outcome.ALREADY_INACTIVE, results.get(1).getOutcome());
+        assertEquals(Outcome.NOT_FOUND, results.get(2).getOutcome());
+        assertEquals(Outcome.DUPLICATE, results.get(2500).getOutcome());
+        assertEquals(Outcome.NOT_FOUND, results.get(2501).getOutcome());
+        assertEquals(2498, results.stream().filter(result -> result.getOutcome() == Outcome.UPDATED).count());
+        assertEquals(2499, categoryRepository.findResponsesByStatus(Status.INACTIVE).size());
+    }
+
+    @Test
+    void bulkEnableShouldOnlyTouchInactiveCategories() {
+        Long other = categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")).getId();
+        categoryService.disableCategory(id);
+
+        List<CategoryBulkResultDTO> results = categoryService.enableCategories(List.of(id, other));
+
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Outcome.ALREADY_ACTIVE, results.get(1).getOutcome());
+        assertEquals(0L, entityManager.find(Category.class, other).getVersion());
+    }
+
+}
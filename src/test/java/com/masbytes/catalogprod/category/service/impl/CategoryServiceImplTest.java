@@ -6,34 +6,59 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.masbytes.catalogprod.category.cache.CategoryCache;
+import com.masbytes.catalogprod.category.cache.CategoryLoadCoalescer;
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.cache.CategoryStatusView;
+import com.masbytes.catalogprod.category.dto.CategoryBulkResultDTO;
 import com.masbytes.catalogprod.category.dto.CategoryRequestDTO;
 import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
 import com.masbytes.catalogprod.category.dto.UpdateCategoryDTO;
+import com.masbytes.catalogprod.category.event.CategoryChangedEvent;
 import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyExistsException;
+import com.masbytes.catalogprod.category.exception.database.CategoryAlreadyIsActiveException;
 import com.masbytes.catalogprod.category.exception.database.CategoryNotFoundException;
 import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
 import com.masbytes.catalogprod.category.mapper.CategoryMapper;
 import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.repository.CategoryNameView;
 import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.repository.CategoryVersion;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
 import com.masbytes.catalogprod.enums.Status;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +70,33 @@ public class CategoryServiceImplTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CategoryCache categoryCache = new CategoryCache(100, Duration.ofMinutes(5));
+
+    @Spy
+    private CategoryLoadCoalescer categoryLoadCoalescer = new CategoryLoadCoalescer(16);
+
+    @Spy
+    private CategoryNegativeCache categoryNegativeCache = new CategoryNegativeCache(null, 100, Duration.ofSeconds(30));
+
+    @Spy
+    private CategoryNameIndex categoryNameIndex = new CategoryNameIndex(null);
+
+    @Mock
+    private CategoryOutbox categoryOutbox;
+
+    @Mock
+    private CategoryChangeVersions categoryChangeVersions;
+
+    @Mock
+    private CategoryStatusSnapshot categoryStatusSnapshot;
+
+    @Spy
+    private CategoryNameFilter categoryNameFilter = new CategoryNameFilter(null, 0.01, Duration.ofHours(1));
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -61,8 +113,8 @@ public class CategoryServiceImplTest {
         CategoryResponseDTO expectedResponse = new CategoryResponseDTO(
                 1L, "ELECTRÓNICA", "PRODUCTOS ELECTRÓNICOS", null, null, null, Status.ACTIVE);
 
-        when(categoryRepository.existsByName("ELECTRÓNICA")).thenReturn(false);
-        when(categoryRepository.save(any(Category.class))).thenReturn(category);
+        when(categoryRepository.existsByNameNormalized("ELECTRÓNICA")).thenReturn(false);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(category);
 
         // Act
         CategoryResponseDTO result = categoryService.createCategory(dto);
@@ -73,8 +125,8 @@ public class CategoryServiceImplTest {
         assertEquals(expectedResponse.getDescription(), result.getDescription());
         assertEquals(expectedResponse.getStatus(), result.getStatus());
 
-        verify(categoryRepository).existsByName("ELECTRÓNICA");
-        verify(categoryRepository).save(any(Category.class));
+        verify(categoryRepository).existsByNameNormalized("ELECTRÓNICA");
+        verify(categoryRepository).saveAndFlush(any(Category.class));
     }
 
     @Test
@@ -139,7 +191,7 @@ public class CategoryServiceImplTest {
         CategoryRequestDTO dto = new CategoryRequestDTO("HIGIENE", "PRODUCTOS DE HIGIENE PERSONAL");
 
         // Simulamos que ya existe una categoría con ese nombre
-        when(categoryRepository.existsByName("HIGIENE")).thenReturn(true);
+        when(categoryRepository.existsByNameNormalized("HIGIENE")).thenReturn(true);
 
         // Act & Assert
         CategoryAlreadyExistsException exception = assertThrows(CategoryAlreadyExistsException.class, () -> {
@@ -148,10 +200,45 @@ public class CategoryServiceImplTest {
 
         assertEquals("Category with name HIGIENE already exists", exception.getMessage());
 
-        verify(categoryRepository).existsByName("HIGIENE");
+        verify(categoryRepository).existsByNameNormalized("HIGIENE");
         verifyNoMoreInteractions(categoryRepository);
     }
 
+    @Test
+    void createCategory_shouldSkipExistenceQueryWhenNameFilterRulesNameOut() {
+        // Arrange
+        categoryNameFilter.load(Stream.of("HIGIENE"), 1);
+        CategoryRequestDTO dto = new CategoryRequestDTO("Jardín", "PRODUCTOS DE JARDÍN");
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenAnswer(invocation -> {
+            Category category = invocation.getArgument(0);
+            category.setId(7L);
+            return category;
+        });
+
+        // Act
+        CategoryResponseDTO result = categoryService.createCategory(dto);
+
+        // Assert
+        assertEquals(7L, result.getId());
+        verify(categoryRepository, never()).existsByNameNormalized(any());
+    }
+
+    @Test
+    void createCategory_shouldReportUniqueIndexViolationAsExistingName() {
+        // Arrange
+        categoryNameFilter.load(Stream.empty(), 0);
+        CategoryRequestDTO dto = new CategoryRequestDTO("HIGIENE", "PRODUCTOS DE HIGIENE PERSONAL");
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("Unique index or primary key violation: \"CATALOG.UK_CATEGORY_NAME_NORMALIZED\"")));
+
+        // Act & Assert
+        CategoryAlreadyExistsException exception = assertThrows(CategoryAlreadyExistsException.class,
+                () -> categoryService.createCategory(dto));
+        assertEquals("Category with name HIGIENE already exists", exception.getMessage());
+        verify(categoryRepository, never()).existsByNameNormalized(any());
+    }
+
     @Test
     void shouldThrowExceptionWhenCategoryDescriptionIsOmitted() {
         // Arrange: DTO sin descripción
@@ -268,7 +355,7 @@ public class CategoryServiceImplTest {
                 null,
                 Status.ACTIVE);
 
-        when(categoryRepository.findByName(normalizedName)).thenReturn(Optional.of(category));
+        when(categoryRepository.findByNameNormalized(normalizedName)).thenReturn(Optional.of(category));
 
         try (MockedStatic<CategoryMapper> mapperMock = mockStatic(CategoryMapper.class)) {
             mapperMock.when(() -> CategoryMapper.toResponseDTO(category)).thenReturn(expectedResponse);
@@ -308,12 +395,32 @@ public class CategoryServiceImplTest {
         String name = "gaming";
         String normalizedName = name.trim().toUpperCase(Locale.ROOT);
 
-        when(categoryRepository.findByName(normalizedName)).thenReturn(Optional.empty());
+        when(categoryRepository.findByNameNormalized(normalizedName)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategoryByName(name));
     }
 
+    @Test
+    void getCategoryByName_shouldAnswerRepeatedMissFromNegativeCacheUntilCreated() {
+        Category category = new Category();
+        category.setId(9L);
+        category.setName("GAMING");
+        category.setDescription("VIDEO GAMES");
+        category.setStatus(Status.ACTIVE);
+        when(categoryRepository.findByNameNormalized("GAMING")).thenReturn(Optional.empty(), Optional.of(category));
+
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategoryByName("gaming"));
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategoryByName(" Gaming "));
+        verify(categoryRepository, times(1)).findByNameNormalized("GAMING");
+
+        // Published once createCategory commits
+        categoryNegativeCache.onCategoryChanged(new CategoryChangedEvent(9L, null, "GAMING"));
+
+        assertEquals(9L, categoryService.getCategoryByName("gaming").getId());
+        verify(categoryRepository, times(2)).findByNameNormalized("GAMING");
+    }
+
     @Test
     void whenNameIsNull_thenThrowsCategoryInvalidDataException() {
         assertThrows(CategoryInvalidDataException.class,
@@ -330,13 +437,13 @@ public class CategoryServiceImplTest {
     void whenNoCategoriesFound_thenThrowsCategoryNotFoundException() {
         String partialName = "Electronics";
 
-        when(categoryRepository.findByNameContainingIgnoreCase(partialName.trim()))
+        when(categoryRepository.findResponsesByNameContaining("ELECTRONICS"))
                 .thenReturn(Collections.emptyList());
 
         assertThrows(CategoryNotFoundException.class,
                 () -> categoryService.searchByPartialName(partialName));
 
-        verify(categoryRepository).findByNameContainingIgnoreCase(partialName.trim());
+        verify(categoryRepository).findResponsesByNameContaining("ELECTRONICS");
     }
 
     @Test
@@ -345,11 +452,6 @@ public class CategoryServiceImplTest {
 
         LocalDateTime now = LocalDateTime.now();
 
-        Category cat1 = new Category(1L, "Electronics", "Category of electronic devices");
-        Category cat2 = new Category(2L, "Electronic Gadgets", "Category of electronic gadgets and accessories");
-
-        List<Category> categories = List.of(cat1, cat2);
-
         CategoryResponseDTO dto1 = new CategoryResponseDTO(
                 1L,
                 "Electronics",
@@ -368,24 +470,60 @@ public class CategoryServiceImplTest {
                 null,
                 Status.ACTIVE);
 
-        when(categoryRepository.findByNameContainingIgnoreCase(partialName.trim()))
-                .thenReturn(categories);
+        when(categoryRepository.findResponsesByNameContaining("ELECTRONICS"))
+                .thenReturn(List.of(dto1, dto2));
 
-        try (MockedStatic<CategoryMapper> mapperMock = mockStatic(CategoryMapper.class)) {
-            mapperMock.when(() -> CategoryMapper.toResponseDTO(cat1)).thenReturn(dto1);
-            mapperMock.when(() -> CategoryMapper.toResponseDTO(cat2)).thenReturn(dto2);
+        List<CategoryResponseDTO> result = categoryService.searchByPartialName(partialName);
 
-            List<CategoryResponseDTO> result = categoryService.searchByPartialName(partialName);
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertTrue(result.contains(dto1));
+        assertTrue(result.contains(dto2));
 
-            assertNotNull(result);
-            assertEquals(2, result.size());
-            assertTrue(result.contains(dto1));
-            assertTrue(result.contains(dto2));
+        verify(categoryRepository).findResponsesByNameContaining("ELECTRONICS");
+        verifyNoMoreInteractions(categoryRepository);
+    }
 
-            verify(categoryRepository).findByNameContainingIgnoreCase(partialName.trim());
-            // No se puede verificar métodos estáticos con verify(), se verifica
-            // indirectamente por comportamiento
-        }
+    @Test
+    void getCategoryByStatus_shouldReturnProjectedCategories() {
+        // Arrange
+        CategoryResponseDTO dto = new CategoryResponseDTO(4L, "TOYS", "TOYS AND GAMES", null, null, null,
+                Status.INACTIVE);
+        when(categoryRepository.findResponsesByStatus(Status.INACTIVE)).thenReturn(List.of(dto));
+
+        // Act
+        List<CategoryResponseDTO> result = categoryService.getCategoryByStatus(Status.INACTIVE);
+
+        // Assert
+        assertEquals(List.of(dto), result);
+        verify(categoryRepository).findResponsesByStatus(Status.INACTIVE);
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    @Test
+    void getCategoryByStatus_shouldServeTheSnapshotWithoutQuerying() {
+        CategoryResponseDTO dto = new CategoryResponseDTO(4L, "TOYS", "TOYS AND GAMES", null, null, null,
+                Status.ACTIVE);
+        when(categoryStatusSnapshot.view(Status.ACTIVE))
+                .thenReturn(Optional.of(new CategoryStatusView(List.of(dto), new byte[0], "\"s0\"")));
+
+        List<CategoryResponseDTO> result = categoryService.getCategoryByStatus(Status.ACTIVE);
+
+        assertEquals(List.of(dto), result);
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void getCategoryByStatus_shouldThrowWhenStatusIsNull() {
+        assertThrows(CategoryInvalidDataException.class, () -> categoryService.getCategoryByStatus(null));
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void getCategoryByStatus_shouldThrowWhenNoCategoryHasStatus() {
+        when(categoryRepository.findResponsesByStatus(Status.DELETED)).thenReturn(List.of());
+
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategoryByStatus(Status.DELETED));
     }
 
     @Test
@@ -458,7 +596,7 @@ public class CategoryServiceImplTest {
             when(categoryRepository.findById(id)).thenReturn(Optional.of(existingCategory));
             // No need to mock updateEntity since it's void (but we can verify later if
             // needed)
-            when(categoryRepository.save(any(Category.class))).thenReturn(updatedCategory);
+            when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(updatedCategory);
             mapperMock.when(() -> CategoryMapper.toResponseDTO(updatedCategory)).thenReturn(expectedResponse);
 
             CategoryResponseDTO actualResponse = categoryService.updateCategory(id, dto);
@@ -474,4 +612,226 @@ public class CategoryServiceImplTest {
         }
     }
 
+    @Test
+    void getCategoryById_shouldServeSecondLookupFromCache() {
+        // Arrange
+        Long id = 3L;
+        Category category = new Category(id, "TOYS", "TOYS AND GAMES");
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+
+        // Act
+        CategoryResponseDTO first = categoryService.getCategoryById(id);
+        CategoryResponseDTO second = categoryService.getCategoryById(id);
+
+        // Assert
+        assertEquals(first, second);
+        verify(categoryRepository, times(1)).findById(id);
+        assertEquals(1, categoryCache.stats().hitCount());
+    }
+
+    @Test
+    void getCategoryVersion_shouldUseCachedCategoryWithoutQuerying() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+        categoryCache.put(new CategoryResponseDTO(6L, "GAMES", "VIDEO GAMES", updatedAt, updatedAt, null,
+                Status.ACTIVE));
+
+        // Act
+        CategoryVersion version = categoryService.getCategoryVersion(6L);
+
+        // Assert
+        assertEquals(new CategoryVersion(6L, updatedAt), version);
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void getCategoryVersion_shouldThrowWhenCategoryNotFound() {
+        // Arrange
+        when(categoryRepository.findVersionById(7L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategoryVersion(7L));
+    }
+
+    @Test
+    void disableCategory_shouldUpdateWithOneStatementAndPublishChange() {
+        // Arrange
+        CategoryResponseDTO disabled = new CategoryResponseDTO(8L, "TOOLS", "HAND TOOLS", null, null, null,
+                Status.INACTIVE);
+        when(categoryRepository.updateStatus(any(), any(), any(), any(), any(), anyLong())).thenReturn(1);
+        when(categoryRepository.findResponseById(8L)).thenReturn(Optional.of(disabled));
+
+        // Act
+        CategoryResponseDTO result = categoryService.disableCategory(8L);
+
+        // Assert
+        assertEquals(disabled, result);
+        verify(categoryRepository).updateStatus(any(), any(), any(), any(), isNull(), anyLong());
+        verify(categoryRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(8L, null, "TOOLS"));
+    }
+
+    @Test
+    void enableCategory_shouldThrowWhenNoRowWasUpdatedAndCategoryIsActive() {
+        // Arrange
+        when(categoryRepository.updateStatus(any(), any(), any(), any(), any(), anyLong())).thenReturn(0);
+        when(categoryRepository.findResponseById(9L)).thenReturn(Optional.of(
+                new CategoryResponseDTO(9L, "TOOLS", "HAND TOOLS", null, null, null, Status.ACTIVE)));
+
+        // Act & Assert
+        assertThrows(CategoryAlreadyIsActiveException.class, () -> categoryService.enableCategory(9L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteCategory_shouldThrowNotFoundWhenCategoryDoesNotExist() {
+        // Arrange
+        when(categoryRepository.updateStatus(any(), any(), any(), any(), any(), anyLong())).thenReturn(0);
+        when(categoryRepository.findResponseById(10L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.deleteCategory(10L));
+    }
+
+    @Test
+    void disableCategory_shouldThrowWhenIdIsNull() {
+        assertThrows(CategoryInvalidDataException.class, () -> categoryService.disableCategory(null));
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void getCategoryByName_shouldUseEntryCachedByIdLookup() {
+        // Arrange
+        Long id = 4L;
+        Category category = new Category(id, "BOOKS", "BOOKS AND MAGAZINES");
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+        categoryService.getCategoryById(id);
+
+        // Act
+        CategoryResponseDTO result = categoryService.getCategoryByName(" books ");
+
+        // Assert
+        assertEquals(id, result.getId());
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    @Test
+    void getCategoryByName_shouldRejectCachedDeletedCategory() {
+        // Arrange
+        categoryCache.put(new CategoryResponseDTO(5L, "OLD", "OLD CATEGORY", null, null, null, Status.DELETED));
+
+        // Act & Assert
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategoryByName("old"));
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void updateCategory_shouldPublishChangeWithPreviousName() {
+        // Arrange
+        Long id = 6L;
+        Category category = new Category(id, "GARDEN", "GARDEN TOOLS");
+        UpdateCategoryDTO dto = new UpdateCategoryDTO("outdoor", "outdoor tools", Status.ACTIVE);
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+        when(categoryRepository.saveAndFlush(category)).thenReturn(category);
+
+        // Act
+        categoryService.updateCategory(id, dto);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(id, "GARDEN", "OUTDOOR"));
+    }
+
+    @Test
+    void searchByPartialName_shouldLoadOnlyIndexedMatches() {
+        // Arrange
+        categoryNameIndex.load(Stream.of(
+                new CategoryNameView(1L, "ELECTRONICS"),
+                new CategoryNameView(2L, "ELECTRONIC GADGETS"),
+                new CategoryNameView(3L, "FOOD")));
+        CategoryResponseDTO dto1 = new CategoryResponseDTO(1L, "ELECTRONICS", "ELECTRONIC DEVICES", null, null,
+                null, Status.ACTIVE);
+        CategoryResponseDTO dto2 = new CategoryResponseDTO(2L, "ELECTRONIC GADGETS", "GADGETS AND ACCESSORIES",
+                null, null, null, Status.ACTIVE);
+        when(categoryRepository.findResponsesByIdInAndNameContaining(List.of(1L, 2L), "TRONIC"))
+                .thenReturn(List.of(dto1, dto2));
+
+        // Act
+        List<CategoryResponseDTO> result = categoryService.searchByPartialName(" tronic ");
+
+        // Assert
+        assertEquals(List.of(1L, 2L), result.stream().map(CategoryResponseDTO::getId).toList());
+        verify(categoryRepository).findResponsesByIdInAndNameContaining(List.of(1L, 2L), "TRONIC");
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    @Test
+    void searchByPartialName_shouldSkipDatabaseWhenIndexHasNoMatch() {
+        // Arrange
+        categoryNameIndex.load(Stream.of(new CategoryNameView(3L, "FOOD")));
+
+        // Act & Assert
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.searchByPartialName("toys"));
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void createCategories_shouldCreateNewNamesAndReportDuplicates() {
+        // Arrange
+        List<CategoryRequestDTO> dtos = List.of(
+                new CategoryRequestDTO("toys", "TOYS AND GAMES"),
+                new CategoryRequestDTO("Books", "BOOKS AND MAGAZINES"),
+                new CategoryRequestDTO(" TOYS ", "MORE TOYS"),
+                new CategoryRequestDTO("garden", "GARDEN TOOLS"));
+        when(categoryRepository.findExistingNames(List.of("TOYS", "BOOKS", "GARDEN"))).thenReturn(List.of("BOOKS"));
+        when(categoryRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Category> categories = invocation.getArgument(0);
+            for (int i = 0; i < categories.size(); i++) {
+                categories.get(i).setId(10L + i);
+            }
+            return categories;
+        });
+
+        // Act
+        List<CategoryBulkResultDTO> results = categoryService.createCategories(dtos);
+
+        // Assert
+        assertEquals(List.of(CategoryBulkResultDTO.Outcome.CREATED, CategoryBulkResultDTO.Outcome.DUPLICATE,
+                CategoryBulkResultDTO.Outcome.DUPLICATE, CategoryBulkResultDTO.Outcome.CREATED),
+                results.stream().map(CategoryBulkResultDTO::getOutcome).toList());
+        assertEquals(10L, results.get(0).getCategory().getId());
+        assertEquals(11L, results.get(3).getCategory().getId());
+        assertEquals(List.of("TOYS", "BOOKS", "TOYS", "GARDEN"),
+                results.stream().map(CategoryBulkResultDTO::getName).toList());
+        verify(categoryRepository, times(1)).findExistingNames(anyList());
+        verify(categoryRepository, times(1)).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void createCategories_shouldReportNamesTakenConcurrentlyAsConflicts() {
+        // Arrange
+        List<CategoryRequestDTO> dtos = List.of(new CategoryRequestDTO("TOYS", "TOYS AND GAMES"));
+        when(categoryRepository.findExistingNames(List.of("TOYS"))).thenReturn(List.of());
+        when(categoryRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException(
+                "could not execute batch",
+                new SQLException("Unique index or primary key violation: \"CATALOG.UK_CATEGORY_NAME_NORMALIZED\"")));
+
+        // Act & Assert
+        CategoryAlreadyExistsException exception = assertThrows(CategoryAlreadyExistsException.class,
+                () -> categoryService.createCategories(dtos));
+        assertEquals("One or more category names already exist", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createCategories_shouldRejectWholeRequestWhenAnEntryIsInvalid() {
+        // Arrange
+        List<CategoryRequestDTO> dtos = List.of(
+                new CategoryRequestDTO("TOYS", "TOYS AND GAMES"),
+                new CategoryRequestDTO("BOOKS", " "));
+
+        // Act & Assert
+        assertThrows(CategoryInvalidDataException.class, () -> categoryService.createCategories(dtos));
+        verifyNoInteractions(categoryRepository);
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.masbytes.catalogprod.category.specification;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Test-only Hibernate hook that records every SQL statement it sees.
+ */
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String lastSelect() {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            if (STATEMENTS.get(i).trim().toLowerCase().startsWith("select")) {
+                return STATEMENTS.get(i);
+            }
+        }
+        throw new IllegalStateException("No SELECT statement was captured");
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.masbytes.catalogprod.category.specification;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.masbytes.catalogprod.category.dto.CategoryFilterDTO;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * Checks on H2 that every combination of filter fields is answered through an
+ * index and never through a full table scan.
+ */
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.masbytes.catalogprod.category.specification.CapturingStatementInspector",
+        // Inline the values so the captured SQL can be explained as is
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+public class CategorySpecificationsQueryPlanTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 500; i++) {
+            Category category = new Category("CATEGORY " + i, "DESCRIPTION " + i);
+            category.setStatus(Status.values()[i % Status.values().length]);
+            categoryRepository.save(category);
+        }
+        categoryRepository.flush();
+    }
+
+    /**
+     * Every non-empty combination of name, status, createdAfter and
+     * createdBefore, encoded as a bit mask.
+     */
+
+    static Stream<Integer> filterCombinations() {
+        return IntStream.range(1, 16).boxed();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterCombinations")
+    void filterShouldBeServedByAnIndex(int mask) {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryFilterDTO filter = new CategoryFilterDTO(
+                (mask & 1) != 0 ? "category 4" : null,
+                (mask & 2) != 0 ? Status.ACTIVE : null,
+                (mask & 4) != 0 ? now.minusMinutes(5) : null,
+                (mask & 8) != 0 ? now.plusMinutes(5) : null);
+
+        CapturingStatementInspector.clear();
+        categoryRepository.findAll(CategorySpecifications.fromFilter(filter));
+        String sql = CapturingStatementInspector.lastSelect();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertFalse(plan.contains("tableScan"), () -> "Full scan for mask " + mask + ":\n" + plan);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+
+public class CategoryCsvReaderTest {
+
+    @Test
+    void shouldSplitPlainAndQuotedFields() throws IOException {
+        CategoryCsvReader reader = new CategoryCsvReader(
+                new StringReader("name,description\r\nTOYS,\"GAMES, \"\"PUZZLES\"\"\"\nFOOD,\n"));
+
+        assertEquals(List.of("name", "description"), reader.readRecord());
+        assertEquals(List.of("TOYS", "GAMES, \"PUZZLES\""), reader.readRecord());
+        assertEquals(List.of("FOOD", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void shouldKeepLineBreaksInsideQuotesAndTrackRecordLines() throws IOException {
+        CategoryCsvReader reader = new CategoryCsvReader(new StringReader("a,\"multi\nline\"\r\nb,c"));
+
+        assertEquals(List.of("a", "multi\nline"), reader.readRecord());
+        assertEquals(1, reader.getRecordLine());
+        assertEquals(List.of("b", "c"), reader.readRecord());
+        assertEquals(3, reader.getRecordLine());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void shouldReadRecordsLargerThanTheBuffer() throws IOException {
+        String description = "D".repeat(20_000);
+        CategoryCsvReader reader = new CategoryCsvReader(new StringReader("X,\"" + description + "\"\nY,Z\n"));
+
+        assertEquals(List.of("X", description), reader.readRecord());
+        assertEquals(List.of("Y", "Z"), reader.readRecord());
+    }
+
+    @Test
+    void shouldRejectUnterminatedQuotes() throws IOException {
+        CategoryCsvReader reader = new CategoryCsvReader(new StringReader("ok,row\n\"broken,row\n"));
+
+        reader.readRecord();
+        assertThrows(CategoryInvalidDataException.class, reader::readRecord);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.category.model.Category;
+
+@DataJpaTest
+@Import(CategoryExporter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class CategoryExporterTest {
+
+    @Autowired
+    private CategoryExporter categoryExporter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(new Category("BOOKS", "BOOKS AND MAGAZINES"));
+        entityManager.persist(new Category("TOYS", "TOYS, GAMES AND \"PUZZLES\""));
+        entityManager.persist(new Category("FOOD", "FOOD\nAND DRINKS"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void ndjsonExportShouldWriteOneObjectPerLineInIdOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = categoryExporter.export(CategoryExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, rows);
+        assertEquals(3, lines.size());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals("TOYS", second.get("name").asText());
+        assertEquals("TOYS, GAMES AND \"PUZZLES\"", second.get("description").asText());
+        assertEquals("ACTIVE", second.get("status").asText());
+    }
+
+    @Test
+    void csvExportShouldQuoteOnlyFieldsThatNeedIt() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        categoryExporter.export(CategoryExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith(CategoryExporter.CSV_HEADER + "\r\n"));
+        assertTrue(csv.contains(",BOOKS,BOOKS AND MAGAZINES,ACTIVE,"));
+        assertTrue(csv.contains(",TOYS,\"TOYS, GAMES AND \"\"PUZZLES\"\"\",ACTIVE,"));
+        assertTrue(csv.contains(",FOOD,\"FOOD\nAND DRINKS\",ACTIVE,"));
+    }
+
+    @Test
+    void exportShouldLeaveThePersistenceContextEmpty() throws IOException {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        categoryExporter.export(CategoryExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    void unknownFormatShouldBeRejected() {
+        assertEquals(CategoryExportFormat.CSV, CategoryExportFormat.fromValue(" Csv "));
+        assertThrows(CategoryInvalidDataException.class, () -> CategoryExportFormat.fromValue("xml"));
+    }
+
+}
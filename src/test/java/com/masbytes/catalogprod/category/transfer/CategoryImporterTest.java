@@ -0,0 +1,106 @@
+package com.masbytes.catalogprod.category.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.dto.CategoryImportChunkDTO;
+import com.masbytes.catalogprod.category.dto.CategoryImportErrorDTO;
+import com.masbytes.catalogprod.category.dto.CategoryImportReportDTO;
+import com.masbytes.catalogprod.category.exception.validation.CategoryInvalidDataException;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.outbox.CategoryOutboxRepository;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+
+@DataJpaTest(properties = "catalog.category.import.chunk-size=3")
+@Import({ CategoryImporter.class, CategoryNameIndex.class, CategoryNameFilter.class, CategoryStatusSnapshot.class,
+        CategoryNegativeCache.class, CategoryOutbox.class,
+        CategoryChangeVersions.class })
+@ImportAutoConfiguration({ ValidationAutoConfiguration.class, JacksonAutoConfiguration.class })
+public class CategoryImporterTest {
+
+    @Autowired
+    private CategoryImporter categoryImporter;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryNameIndex categoryNameIndex;
+
+    @Autowired
+    private CategoryNameFilter categoryNameFilter;
+
+    @Autowired
+    private CategoryOutboxRepository categoryOutboxRepository;
+
+    @Test
+    void shouldImportValidRowsChunkByChunkAndReportTheRest() throws IOException {
+        categoryRepository.save(new Category("BOOKS", "BOOKS AND MAGAZINES"));
+        // Rows saved through the repository bypass the change events
+        categoryNameFilter.rebuild();
+
+        CategoryImportReportDTO report = categoryImporter.importCsv(csv("""
+                id,name,description,status
+                1, toys ,"toys, games",ACTIVE
+                2,books,already there,ACTIVE
+                3,food,food and drinks,ACTIVE
+
+                4,Toys,repeated in the file,ACTIVE
+                5,ab,name too short,ACTIVE
+                6,garden,,ACTIVE
+                7,music,"music
+                and instruments",ACTIVE
+                """));
+
+        assertEquals(CategoryImportReportDTO.Method.BATCH_INSERT, report.getMethod());
+        assertEquals(7, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getDuplicates());
+        assertEquals(2, report.getRejected());
+        assertEquals(List.of(3, 3, 1), report.getChunks().stream().map(CategoryImportChunkDTO::getRows).toList());
+        assertEquals(List.of(2, 0, 1),
+                report.getChunks().stream().map(CategoryImportChunkDTO::getImported).toList());
+        assertEquals(List.of(7L, 8L), report.getErrors().stream().map(CategoryImportErrorDTO::getLine).toList());
+        assertTrue(report.getChunks().stream().allMatch(chunk -> chunk.getRowsPerSecond() > 0));
+
+        Category toys = categoryRepository.findByNameNormalized("TOYS").orElseThrow();
+        assertEquals("TOYS, GAMES", toys.getDescription());
+        assertEquals("MUSIC\nAND INSTRUMENTS", categoryRepository.findByNameNormalized("MUSIC").orElseThrow().getDescription());
+        assertEquals(4, categoryRepository.count());
+        assertEquals(List.of(toys.getId()), categoryNameIndex.search("TOY").orElseThrow());
+        assertTrue(categoryNameFilter.mightContain("MUSIC"));
+        assertEquals(3, categoryOutboxRepository.count());
+    }
+
+    @Test
+    void shouldRejectFilesWithoutTheRequiredColumns() {
+        assertThrows(CategoryInvalidDataException.class, () -> categoryImporter.importCsv(csv("name,label\nA,B\n")));
+        assertThrows(CategoryInvalidDataException.class, () -> categoryImporter.importCsv(csv("")));
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
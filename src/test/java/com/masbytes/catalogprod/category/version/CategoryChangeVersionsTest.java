@@ -0,0 +1,89 @@
+package com.masbytes.catalogprod.category.version;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryCatalogVersion;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.enums.Status;
+
+@DataJpaTest
+@Import(CategoryChangeVersions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryChangeVersionsTest {
+
+    @Autowired
+    private CategoryChangeVersions categoryChangeVersions;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void nextShouldReturnOneVersionPerTransaction() {
+        long[] first = transaction.execute(status -> new long[] {
+                categoryChangeVersions.next(), categoryChangeVersions.next() });
+        long second = transaction.execute(status -> categoryChangeVersions.next());
+
+        assertEquals(first[0], first[1]);
+        assertEquals(first[0] + 1, second);
+    }
+
+    @Test
+    void catalogVersionShouldChangeWhenAnUpdateStampedEarlierCommitsLater() {
+        LocalDateTime stampedEarlier = LocalDateTime.now().minusSeconds(5);
+        Long id = transaction.execute(status -> {
+            Category garden = new Category("GARDEN", "GARDEN AND OUTDOORS");
+            garden.setChangeVersion(categoryChangeVersions.next());
+            categoryRepository.saveAndFlush(garden);
+
+            Category music = new Category("MUSIC", "MUSIC AND INSTRUMENTS");
+            music.setChangeVersion(categoryChangeVersions.next());
+            categoryRepository.saveAndFlush(music);
+            return garden.getId();
+        });
+        CategoryCatalogVersion before = categoryRepository.findCatalogVersion();
+
+        // The update date is older than the latest one in the catalog, stamped
+        // before a commit that took longer than a later write
+        transaction.executeWithoutResult(status -> categoryRepository.updateStatus(id, Set.of(Status.ACTIVE),
+                Status.INACTIVE, stampedEarlier, null, categoryChangeVersions.next()));
+        CategoryCatalogVersion after = categoryRepository.findCatalogVersion();
+
+        assertEquals(before.lastId(), after.lastId());
+        assertEquals(before.lastUpdatedAt(), after.lastUpdatedAt());
+        assertTrue(after.lastChangeVersion() > before.lastChangeVersion());
+        assertNotEquals(before, after);
+    }
+
+}
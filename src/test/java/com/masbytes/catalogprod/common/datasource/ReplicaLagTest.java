@@ -0,0 +1,150 @@
+package com.masbytes.catalogprod.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.masbytes.catalogprod.category.cache.CategoryCache;
+import com.masbytes.catalogprod.category.cache.CategoryLoadCoalescer;
+import com.masbytes.catalogprod.category.cache.CategoryNegativeCache;
+import com.masbytes.catalogprod.category.cache.CategoryStatusSnapshot;
+import com.masbytes.catalogprod.category.dto.CategoryResponseDTO;
+import com.masbytes.catalogprod.category.mapper.CategoryMapper;
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.outbox.CategoryOutbox;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+import com.masbytes.catalogprod.category.search.CategoryNameFilter;
+import com.masbytes.catalogprod.category.search.CategoryNameIndex;
+import com.masbytes.catalogprod.category.service.impl.CategoryServiceImpl;
+import com.masbytes.catalogprod.category.version.CategoryChangeVersions;
+import com.masbytes.catalogprod.enums.Status;
+
+/**
+ * The replica is a copy of the primary taken before each test, and the
+ * primary moves on after it: every read-only query that reaches the replica
+ * sees the catalog as it was, like a replica lagging behind.
+ */
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lag-primary;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS catalog",
+        "catalog.datasource.replica.url=jdbc:h2:mem:lag-replica;DB_CLOSE_DELAY=-1" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ReplicaRoutingConfiguration.class, CategoryServiceImpl.class, CategoryMapper.class, CategoryCache.class,
+        CategoryLoadCoalescer.class, CategoryNegativeCache.class, CategoryStatusSnapshot.class,
+        CategoryNameIndex.class, CategoryNameFilter.class, CategoryOutbox.class, CategoryChangeVersions.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaLagTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryServiceImpl categoryService;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CategoryStatusSnapshot categoryStatusSnapshot;
+
+    @Autowired
+    private CategoryNameIndex categoryNameIndex;
+
+    @Autowired
+    private CategoryNameFilter categoryNameFilter;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+
+    private Long toys;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        toys = new TransactionTemplate(transactionManager)
+                .execute(status -> categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")).getId());
+
+        // The replica catches up with the primary once, then lags behind
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT", String.class).forEach(replica::execute);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        primary.update("DELETE FROM catalog.category");
+        categoryCache.evict(toys, "TOYS", "GARDEN");
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void cacheFillsShouldReadThePrimary() {
+        primary.update("UPDATE catalog.category SET description = 'TOYS, GAMES AND PUZZLES' WHERE id = ?", toys);
+        Long garden = new TransactionTemplate(transactionManager)
+                .execute(status -> categoryRepository.save(new Category("GARDEN", "GARDEN TOOLS")).getId());
+
+        assertEquals("TOYS, GAMES AND PUZZLES", categoryService.getCategoryById(toys).getDescription());
+        assertEquals("TOYS, GAMES AND PUZZLES", categoryCache.getById(toys).orElseThrow().getDescription());
+        assertEquals(garden, categoryService.getCategoryByName("GARDEN").getId());
+    }
+
+    @Test
+    void rebuildsAndRefreshesShouldReadThePrimary() {
+        Long garden = new TransactionTemplate(transactionManager)
+                .execute(status -> categoryRepository.save(new Category("GARDEN", "GARDEN TOOLS")).getId());
+
+        categoryStatusSnapshot.rebuild();
+        categoryNameIndex.rebuild();
+        categoryNameFilter.rebuild();
+
+        assertEquals(List.of(toys, garden), activeIds());
+        assertEquals(List.of(garden), categoryNameIndex.search("GARD").orElseThrow());
+        assertTrue(categoryNameFilter.mightContain("GARDEN"));
+
+        // Written by another instance: only the refreshes can see it
+        primary.update("UPDATE catalog.category SET status = 'INACTIVE', name = 'PUZZLES', name_normalized = 'PUZZLES',"
+                + " change_version = change_version + 100 WHERE id = ?", toys);
+        categoryStatusSnapshot.refresh();
+        categoryNameIndex.refresh();
+
+        assertEquals(List.of(garden), activeIds());
+        assertEquals(List.of(toys), categoryNameIndex.search("PUZZ").orElseThrow());
+    }
+
+    private List<Long> activeIds() {
+        return categoryStatusSnapshot.view(Status.ACTIVE).orElseThrow().categories().stream()
+                .map(CategoryResponseDTO::getId)
+                .toList();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.masbytes.catalogprod.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.masbytes.catalogprod.category.model.Category;
+import com.masbytes.catalogprod.category.repository.CategoryRepository;
+
+/**
+ * Two independent H2 databases stand in for the primary and the replica; the
+ * replica gets the primary's schema but none of its rows, so every read shows
+ * where it was routed.
+ */
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS catalog",
+        "catalog.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaRoutingConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        if (replica.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'CATEGORY'",
+                Integer.class) == 0) {
+            new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class)
+                    .forEach(replica::execute);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM catalog.category");
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsShouldReadFromTheReplica() {
+        readWrite.executeWithoutResult(status -> categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")));
+
+        assertEquals(Long.valueOf(0), readOnly.execute(status -> categoryRepository.count()));
+        assertEquals(Long.valueOf(1), readWrite.execute(status -> categoryRepository.count()));
+        assertEquals(1L, new JdbcTemplate(primaryDataSource)
+                .queryForObject("SELECT COUNT(*) FROM catalog.category", Long.class));
+    }
+
+    @Test
+    void forcedPrimaryShouldServeReadOnlyTransactions() {
+        readWrite.executeWithoutResult(status -> categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")));
+
+        ReplicaRoutingContext.forcePrimary();
+
+        assertTrue(readOnly.execute(status -> categoryRepository.findByNameNormalized("TOYS")).isPresent());
+    }
+
+    @Test
+    void workOutsideTransactionsShouldUseThePrimary() {
+        readWrite.executeWithoutResult(status -> categoryRepository.save(new Category("TOYS", "TOYS AND GAMES")));
+
+        assertEquals(Long.valueOf(1), new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM catalog.category", Long.class));
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, ReplicaRoutingDataSource.currentTarget());
+    }
+
+}
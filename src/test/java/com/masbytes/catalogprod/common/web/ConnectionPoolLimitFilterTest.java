@@ -0,0 +1,58 @@
+package com.masbytes.catalogprod.common.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class ConnectionPoolLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldReleaseThePermitAfterTheRequest() throws Exception {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(10), objectMapper);
+        AtomicInteger inFlight = new AtomicInteger();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), new MockHttpServletResponse(),
+                (request, response) -> inFlight.set(filter.availablePermits()));
+
+        assertEquals(0, inFlight.get());
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    void shouldRejectWith503WhenNoPermitBecomesAvailable() throws Exception {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(0, Duration.ofMillis(10), objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories/1"), response,
+                (request, ignored) -> {
+                    throw new AssertionError("The request should not be processed");
+                });
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Too many concurrent requests"));
+    }
+
+    @Test
+    void shouldNotLimitRequestsOutsideTheApi() throws Exception {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(0, Duration.ofMillis(10), objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (request, ignored) -> {
+        });
+
+        assertEquals(200, response.getStatus());
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.masbytes.catalogprod.common.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.masbytes.catalogprod.common.datasource.ReplicaRoutingContext;
+
+import jakarta.servlet.http.Cookie;
+
+public class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    void writesShouldRunOnThePrimaryAndSetTheCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean primary = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/categories/import"), response,
+                (request, ignored) -> primary.set(ReplicaRoutingContext.isPrimaryForced()));
+
+        assertTrue(primary.get());
+        assertFalse(ReplicaRoutingContext.isPrimaryForced());
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertEquals(5, cookie.getMaxAge());
+    }
+
+    @Test
+    void readsShouldUseThePrimaryOnlyWhileTheCookieIsSent() throws Exception {
+        AtomicBoolean primary = new AtomicBoolean(true);
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/v1/categories/1");
+
+        filter.doFilter(read, new MockHttpServletResponse(),
+                (request, ignored) -> primary.set(ReplicaRoutingContext.isPrimaryForced()));
+        assertFalse(primary.get());
+
+        MockHttpServletRequest readAfterWrite = new MockHttpServletRequest("GET", "/api/v1/categories/1");
+        readAfterWrite.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(readAfterWrite, response,
+                (request, ignored) -> primary.set(ReplicaRoutingContext.isPrimaryForced()));
+        assertTrue(primary.get());
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+}